@@ -1,19 +1,97 @@
 import service.FileReaderService;
 import service.EvaluationService;
+import service.DecisionColumnWriter;
+import service.TailingReader;
+import service.QuarantineSink;
+import service.EvaluationReport;
+import service.PartitionCoordinator;
 import model.Application;
+import java.util.Collections;
 import java.util.List;
+import java.io.BufferedWriter;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 
 public class Main {
 
     private static final String CSV_FILE_PATH = "Files/ScholarshipApplications.csv";
 
+    // Usage: Main [csvFile] [--columnar outputFile] [--checkpoint checkpointFile] [--quarantine quarantineFile] [--report] [--workers count]
     public static void main(String[] args) {
+        String csvFilePath = CSV_FILE_PATH;
+        String columnarFilePath = null;
+        String checkpointFilePath = null;
+        String quarantineFilePath = null;
+        boolean printReport = false;
+        int workerCount = 0;
+
+        for (int i = 0; i < args.length; i++) {
+            if ("--columnar".equals(args[i]) && i + 1 < args.length) {
+                columnarFilePath = args[++i];
+            } else if ("--checkpoint".equals(args[i]) && i + 1 < args.length) {
+                checkpointFilePath = args[++i];
+            } else if ("--quarantine".equals(args[i]) && i + 1 < args.length) {
+                quarantineFilePath = args[++i];
+            } else if ("--report".equals(args[i])) {
+                printReport = true;
+            } else if ("--workers".equals(args[i]) && i + 1 < args.length) {
+                String value = args[++i];
+                try {
+                    workerCount = Integer.parseInt(value);
+                } catch (NumberFormatException e) {
+                    workerCount = -1;
+                }
+                if (workerCount < 1) {
+                    System.err.println("Error: --workers needs a positive whole number, got: " + value);
+                    return;
+                }
+            } else {
+                csvFilePath = args[i];
+            }
+        }
+
+        // Worker processes only produce the result lines
+        if (workerCount > 0 && (printReport || columnarFilePath != null
+                || checkpointFilePath != null || quarantineFilePath != null)) {
+            System.err.println("Error: --workers cannot be combined with --report, --columnar, --checkpoint or --quarantine");
+            return;
+        }
+
         try {
-            // Reading files
-            FileReaderService fileReader = new FileReaderService();
-            List<Application> applications = fileReader.readAndParseApplications(CSV_FILE_PATH);
+            // Partitioned evaluation in separate worker processes, streamed as the results merge
+            if (workerCount > 0) {
+                Writer out = new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16);
+                out.write("\n");
+                int count = new PartitionCoordinator(workerCount, Collections.emptyList()).evaluate(csvFilePath, out);
+                out.write(count == 0 ? "No applications found.\n" : "\n");
+                out.flush();
+                return;
+            }
+
+            // Reading files (resuming from the checkpoint when one is given)
+            List<Application> applications;
+            if (checkpointFilePath != null && quarantineFilePath != null) {
+                try (QuarantineSink quarantine = new QuarantineSink(quarantineFilePath)) {
+                    applications = new TailingReader(csvFilePath, checkpointFilePath, quarantine).load();
+                    if (quarantine.getRejectedCount() > 0) {
+                        System.err.println("Quarantined " + quarantine.getRejectedCount() + " rows to " + quarantineFilePath);
+                    }
+                }
+            } else if (checkpointFilePath != null) {
+                applications = new TailingReader(csvFilePath, checkpointFilePath).load();
+            } else if (quarantineFilePath != null) {
+                try (QuarantineSink quarantine = new QuarantineSink(quarantineFilePath)) {
+                    applications = new FileReaderService().readAndParseApplications(csvFilePath, quarantine);
+                    if (quarantine.getRejectedCount() > 0) {
+                        System.err.println("Quarantined " + quarantine.getRejectedCount() + " rows to " + quarantineFilePath);
+                    }
+                }
+            } else {
+                FileReaderService fileReader = new FileReaderService();
+                applications = fileReader.readAndParseApplications(csvFilePath);
+            }
 
             if (applications.isEmpty()) {
                 System.out.println("No applications found.");
@@ -22,7 +100,12 @@ public class Main {
 
             // Evaluation
             EvaluationService evaluator = new EvaluationService();
-            evaluator.evaluateAll(applications);
+            EvaluationReport report = null;
+            if (printReport) {
+                report = evaluator.evaluateAllWithReport(applications);
+            } else {
+                evaluator.evaluateAll(applications);
+            }
 
             // Sorting
             evaluator.sortByApplicantID(applications);
@@ -31,8 +114,17 @@ public class Main {
             System.out.println();
             System.out.println(evaluator.getResultsAsString(applications));
 
+            if (report != null) {
+                System.out.println(report);
+            }
+
+            // Columnar copy of the decisions for downstream systems
+            if (columnarFilePath != null) {
+                new DecisionColumnWriter().write(applications, columnarFilePath);
+            }
+
         } catch (FileNotFoundException e) {
-            System.err.println("Error: CSV file not found at " + CSV_FILE_PATH);
+            System.err.println("Error: CSV file not found at " + csvFilePath);
         } catch (IOException e) {
             System.err.println("Error: Unable to read the file. " + e.getMessage());
         } catch (NumberFormatException e) {
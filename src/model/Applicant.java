@@ -21,11 +21,16 @@ public class Applicant {
     }
 
     private void validateApplicantID(String applicantID) {
-        if (applicantID == null || applicantID.trim().length() < 4) {
+        if (!isValidApplicantID(applicantID)) {
             throw new IllegalArgumentException("Invalid Applicant ID");
         }
     }
 
+    // Same check as the constructor, without throwing
+    public static boolean isValidApplicantID(String applicantID) {
+        return applicantID != null && applicantID.trim().length() >= 4;
+    }
+
     public String getApplicantID() { return applicantID; }
     public String getName() { return name; }
     public double getGpa() { return gpa; }
@@ -0,0 +1,98 @@
+package model;
+
+// Immutable snapshot of everything the evaluation rules read from an application, used for replays
+public final class ApplicantInput implements EvaluationInput {
+
+    // Document flags
+    private static final int ENR = 1;
+    private static final int REC = 1 << 1;
+    private static final int SAV = 1 << 2;
+    private static final int RSV = 1 << 3;
+    private static final int GRP = 1 << 4;
+
+    private final String applicantID;
+    private final String name;
+    private final String scholarshipTypeCode;
+    private final double gpa;
+    private final boolean transcriptStatus;
+    private final int documentFlags;
+    private final double familyIncome;
+    private final int dependents;
+    private final int publicationCount;
+    private final double averageImpact;
+
+    private ApplicantInput(Application application) {
+        Applicant applicant = application.getApplicant();
+        this.applicantID = applicant.getApplicantID();
+        this.name = applicant.getName();
+        this.scholarshipTypeCode = applicant.getScholarshipTypeCode();
+        this.gpa = applicant.getGpa();
+        this.transcriptStatus = application.getTranscriptStatus();
+
+        int flags = 0;
+        for (Document doc : application.documents) {
+            if (doc != null) {
+                flags |= flagOf(doc.getDocumentType());
+            }
+        }
+        this.documentFlags = flags;
+
+        if (application instanceof NeedBasedScholarship) {
+            NeedBasedScholarship need = (NeedBasedScholarship) application;
+            this.familyIncome = need.getFamilyIncome();
+            this.dependents = need.getDependents();
+        } else {
+            this.familyIncome = 0.0;
+            this.dependents = 0;
+        }
+
+        // Publications only count towards research grants
+        if (application instanceof ResearchGrant) {
+            this.publicationCount = application.getPublicationCount();
+            this.averageImpact = application.getAverageImpact();
+        } else {
+            this.publicationCount = 0;
+            this.averageImpact = 0.0;
+        }
+    }
+
+    public static ApplicantInput from(Application application) {
+        if (application == null) {
+            throw new IllegalArgumentException("Application cannot be null");
+        }
+        return new ApplicantInput(application);
+    }
+
+    private static int flagOf(String documentType) {
+        if (documentType == null) return 0;
+        switch (documentType) {
+            case "ENR": return ENR;
+            case "REC": return REC;
+            case "SAV": return SAV;
+            case "RSV": return RSV;
+            case "GRP": return GRP;
+            default: return 0;
+        }
+    }
+
+    public boolean hasDocument(String documentType) {
+        int flag = flagOf(documentType);
+        return flag != 0 && (documentFlags & flag) != 0;
+    }
+
+    // Getters
+    public String getApplicantID() { return applicantID; }
+    public String getName() { return name; }
+    public String getScholarshipTypeCode() { return scholarshipTypeCode; }
+    public double getGpa() { return gpa; }
+    public boolean getTranscriptStatus() { return transcriptStatus; }
+    public double getFamilyIncome() { return familyIncome; }
+    public int getDependents() { return dependents; }
+    public int getPublicationCount() { return publicationCount; }
+    public double getAverageImpact() { return averageImpact; }
+
+    @Override
+    public String toString() {
+        return "ApplicantInput{ID='" + applicantID + "', type=" + scholarshipTypeCode + ", GPA=" + gpa + "}";
+    }
+}
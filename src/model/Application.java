@@ -4,7 +4,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-public abstract class Application {
+public abstract class Application implements EvaluationInput {
+
+    private static final double GENERAL_MINIMUM_GPA = 2.50;
 
     // Common features (available in all scholarship types)
     protected Applicant applicant;
@@ -12,11 +14,11 @@ public abstract class Application {
     protected ArrayList<Publication> publications;
     protected boolean transcriptStatus;
 
-    // Evaluation results
-    protected String status;
-    protected String scholarshipType;
-    protected int durationInYears;
-    protected String rejectionReason;
+    // Evaluation result
+    protected Decision decision;
+
+    // Average publication impact, computed on first use; NaN until then
+    private double averageImpact = Double.NaN;
 
     // Constructor
     public Application(Applicant applicant) {
@@ -27,48 +29,53 @@ public abstract class Application {
         this.documents = new ArrayList<>();
         this.publications = new ArrayList<>();
         this.transcriptStatus = false;
-        this.status = "Pending";
-        this.scholarshipType = null;
-        this.durationInYears = 0;
-        this.rejectionReason = null;
+        this.decision = Decision.PENDING;
     }
 
     // Abstract Methods
-    public abstract void evaluate();
-
-    // Determine scholarship type
-    protected abstract String determineScholarshipType();
-
-    // Calculate scholarship duration
-    protected abstract int calculateDuration();
+    public abstract Decision evaluate();
 
     public boolean checkGeneralEligibility() {
-        if (!hasDocument("ENR")) {
-            this.status = "Rejected";
-            this.rejectionReason = "Missing Enrollment Certificate";
+        Decision general = checkGeneralEligibility(hasDocument("ENR"), transcriptStatus, applicant.getGpa());
+        if (general != Decision.PENDING) {
+            this.decision = general;
             return false;
         }
+        return true;
+    }
+
+    // General rules shared by every scholarship type; PENDING means all of them passed.
+    // Takes plain values so this shared code never dispatches on the input's class, which keeps it
+    // inlinable from every subclass even though the evaluate() call sites mix all three.
+    protected static Decision checkGeneralEligibility(boolean hasEnrollment, boolean transcriptStatus, double gpa) {
+        if (!hasEnrollment) {
+            return Decision.rejected(Decision.RejectionReason.MISSING_ENROLLMENT);
+        }
 
         if (!transcriptStatus) {
-            this.status = "Rejected";
-            this.rejectionReason = "Missing Transcript";
-            return false;
+            return Decision.rejected(Decision.RejectionReason.MISSING_TRANSCRIPT);
         }
 
-        if (applicant.getGpa() < 2.50) {
-            this.status = "Rejected";
-            this.rejectionReason = "GPA below 2.5";
-            return false;
+        if (gpa < GENERAL_MINIMUM_GPA) {
+            return Decision.rejected(Decision.RejectionReason.GPA_BELOW_GENERAL_MINIMUM);
         }
 
-        return true;
+        return Decision.PENDING;
+    }
+
+    // Stores the decision as this application's result and returns it
+    protected Decision applyDecision(Decision decision) {
+        this.decision = decision;
+        return decision;
     }
 
+    @Override
     public boolean hasDocument(String documentType) {
         if (documentType == null) {
             return false;
         }
-        for (Document doc : documents) {
+        for (int i = 0; i < documents.size(); i++) {
+            Document doc = documents.get(i);
             if (doc != null && documentType.equals(doc.getDocumentType())) {
                 return true;
             }
@@ -80,7 +87,8 @@ public abstract class Application {
         if (documentType == null) {
             return null;
         }
-        for (Document doc : documents) {
+        for (int i = 0; i < documents.size(); i++) {
+            Document doc = documents.get(i);
             if (doc != null && documentType.equals(doc.getDocumentType())) {
                 return doc;
             }
@@ -102,6 +110,7 @@ public abstract class Application {
             throw new IllegalArgumentException("Publication cannot be null");
         }
         this.publications.add(publication);
+        this.averageImpact = Double.NaN;
     }
 
     // Sets transcript status
@@ -114,20 +123,67 @@ public abstract class Application {
         return applicant;
     }
 
+    @Override
+    public double getGpa() {
+        return applicant.getGpa();
+    }
+
+    // Family information is only recorded for need-based applications
+    @Override
+    public double getFamilyIncome() {
+        return 0.0;
+    }
+
+    @Override
+    public int getDependents() {
+        return 0;
+    }
+
+    @Override
+    public int getPublicationCount() {
+        return publications.size();
+    }
+
+    @Override
+    public double getAverageImpact() {
+        if (!Double.isNaN(averageImpact)) {
+            return averageImpact;
+        }
+        if (publications.isEmpty()) {
+            return 0.0;
+        }
+        double totalImpact = 0.0;
+        for (int i = 0; i < publications.size(); i++) {
+            double impact = publications.get(i).getImpactFactor();
+            if (impact < 0) {
+                throw new IllegalStateException("Publication with negative impact factor detected");
+            }
+            totalImpact += impact;
+        }
+        averageImpact = totalImpact / publications.size();
+        return averageImpact;
+    }
+
+    public Decision getDecision() {
+        return decision;
+    }
+
     public String getStatus() {
-        return status;
+        return decision.getStatus().toString();
     }
 
     public String getScholarshipType() {
-        return scholarshipType;
+        Decision.Type type = decision.getType();
+        return type == null ? null : type.toString();
     }
 
     public int getDurationInYears() {
-        return durationInYears;
+        return decision.getDurationInYears();
     }
 
     public String getRejectionReason() {
-        return rejectionReason;
+        Decision.RejectionReason reason = decision.getRejectionReason();
+        return reason == null ? null : reason.toString();
     }
 
     public List<Document> getDocuments() {
@@ -138,6 +194,7 @@ public abstract class Application {
         return Collections.unmodifiableList(publications);
     }
 
+    @Override
     public boolean getTranscriptStatus() {
         return transcriptStatus;
     }
@@ -150,16 +207,7 @@ public abstract class Application {
         result.append("Applicant ID: ").append(applicant.getApplicantID());
         result.append(", Name: ").append(applicant.getName());
         result.append(", Scholarship: ").append(getScholarshipName());
-        result.append(", Status: ").append(status);
-
-        if ("Accepted".equals(status)) {
-            result.append(", Type: ").append(scholarshipType);
-            result.append(", Duration: ").append(durationInYears);
-            result.append(durationInYears == 1 ? " year" : " years");
-        } else if (rejectionReason != null) {
-            result.append(", Reason: ").append(rejectionReason);
-        }
-
+        result.append(", ").append(decision);
         return result.toString();
     }
 
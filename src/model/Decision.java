@@ -0,0 +1,159 @@
+package model;
+
+// Immutable evaluation result. Every possible value is a shared canonical instance,
+// so producing a decision never allocates and decisions can be compared with ==.
+public final class Decision {
+
+    public enum Status {
+        PENDING("Pending"), ACCEPTED("Accepted"), REJECTED("Rejected");
+
+        private final String text;
+
+        Status(String text) { this.text = text; }
+
+        @Override
+        public String toString() { return text; }
+    }
+
+    public enum Type {
+        FULL("Full"), HALF("Half");
+
+        private final String text;
+
+        Type(String text) { this.text = text; }
+
+        @Override
+        public String toString() { return text; }
+    }
+
+    public enum RejectionReason {
+        MISSING_ENROLLMENT("Missing Enrollment Certificate"),
+        MISSING_TRANSCRIPT("Missing Transcript"),
+        GPA_BELOW_GENERAL_MINIMUM("GPA below 2.5"),
+        GPA_BELOW_MERIT_MINIMUM("GPA below 3.0"),
+        FAMILY_INFO_MISSING("Family information not provided"),
+        INCOME_EXCEEDS_THRESHOLD("Family income exceeds threshold"),
+        MISSING_PUBLICATION("Missing publication or proposal"),
+        IMPACT_TOO_LOW("Publication impact too low");
+
+        private final String text;
+
+        RejectionReason(String text) { this.text = text; }
+
+        @Override
+        public String toString() { return text; }
+    }
+
+    public static final int MAX_DURATION = 15;
+
+    // One-byte code layout: 0x40 | type << 4 | duration when accepted, 0x80 | reason when rejected
+    private static final int ACCEPTED_FLAG = 0x40;
+    private static final int REJECTED_FLAG = 0x80;
+
+    public static final Decision PENDING = new Decision(Status.PENDING, null, 0, null);
+
+    private static final Decision[] REJECTIONS;
+    private static final Decision[][] ACCEPTANCES;
+
+    static {
+        RejectionReason[] reasons = RejectionReason.values();
+        REJECTIONS = new Decision[reasons.length];
+        for (RejectionReason reason : reasons) {
+            REJECTIONS[reason.ordinal()] = new Decision(Status.REJECTED, null, 0, reason);
+        }
+
+        // Row 0 holds acceptances without a type, rows 1.. follow Type.ordinal() + 1
+        ACCEPTANCES = new Decision[Type.values().length + 1][MAX_DURATION + 1];
+        for (int duration = 0; duration <= MAX_DURATION; duration++) {
+            ACCEPTANCES[0][duration] = new Decision(Status.ACCEPTED, null, duration, null);
+            for (Type type : Type.values()) {
+                ACCEPTANCES[type.ordinal() + 1][duration] = new Decision(Status.ACCEPTED, type, duration, null);
+            }
+        }
+    }
+
+    private final Status status;
+    private final Type type;
+    private final byte durationInYears;
+    private final RejectionReason rejectionReason;
+    private final byte code;
+
+    private Decision(Status status, Type type, int durationInYears, RejectionReason rejectionReason) {
+        this.status = status;
+        this.type = type;
+        this.durationInYears = (byte) durationInYears;
+        this.rejectionReason = rejectionReason;
+        this.code = encode(status, type, durationInYears, rejectionReason);
+    }
+
+    public static Decision accepted(Type type, int durationInYears) {
+        if (durationInYears < 0 || durationInYears > MAX_DURATION) {
+            throw new IllegalArgumentException("Duration out of range: " + durationInYears);
+        }
+        return ACCEPTANCES[type == null ? 0 : type.ordinal() + 1][durationInYears];
+    }
+
+    public static Decision rejected(RejectionReason reason) {
+        if (reason == null) {
+            throw new IllegalArgumentException("Rejection reason cannot be null");
+        }
+        return REJECTIONS[reason.ordinal()];
+    }
+
+    // Canonical instance for a code produced by toCode()
+    public static Decision fromCode(byte code) {
+        int bits = code & 0xFF;
+        if ((bits & REJECTED_FLAG) != 0) {
+            int reason = (bits & 0xF) - 1;
+            if (reason < 0 || reason >= REJECTIONS.length) {
+                throw new IllegalArgumentException("Invalid decision code: " + bits);
+            }
+            return REJECTIONS[reason];
+        }
+        if ((bits & ACCEPTED_FLAG) != 0) {
+            int typeIndex = (bits >> 4) & 0x3;
+            if (typeIndex >= ACCEPTANCES.length) {
+                throw new IllegalArgumentException("Invalid decision code: " + bits);
+            }
+            return ACCEPTANCES[typeIndex][bits & 0xF];
+        }
+        if (bits != 0) {
+            throw new IllegalArgumentException("Invalid decision code: " + bits);
+        }
+        return PENDING;
+    }
+
+    private static byte encode(Status status, Type type, int durationInYears, RejectionReason reason) {
+        switch (status) {
+            case ACCEPTED: return (byte) (ACCEPTED_FLAG | ((type == null ? 0 : type.ordinal() + 1) << 4) | durationInYears);
+            case REJECTED: return (byte) (REJECTED_FLAG | (reason.ordinal() + 1));
+            default: return 0;
+        }
+    }
+
+    // Getters
+    public Status getStatus() { return status; }
+    public Type getType() { return type; }
+    public int getDurationInYears() { return durationInYears; }
+    public RejectionReason getRejectionReason() { return rejectionReason; }
+    public byte toCode() { return code; }
+
+    public boolean isAccepted() { return status == Status.ACCEPTED; }
+    public boolean isRejected() { return status == Status.REJECTED; }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        result.append("Status: ").append(status);
+
+        if (status == Status.ACCEPTED) {
+            result.append(", Type: ").append(type);
+            result.append(", Duration: ").append(durationInYears);
+            result.append(durationInYears == 1 ? " year" : " years");
+        } else if (rejectionReason != null) {
+            result.append(", Reason: ").append(rejectionReason);
+        }
+
+        return result.toString();
+    }
+}
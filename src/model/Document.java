@@ -40,13 +40,19 @@ public final class Document {
     }
 
     private void validateDocumentType(String documentType) {
-        if (!VALID_DOCUMENT_TYPES.contains(documentType.trim().toUpperCase())) {
+        if (!isValidDocumentType(documentType)) {
             throw new IllegalArgumentException("Invalid document type: " + documentType);
         }
     }
 
+    // Same check as the constructor, without throwing
+    public static boolean isValidDocumentType(String documentType) {
+        return documentType != null && VALID_DOCUMENT_TYPES.contains(documentType.trim().toUpperCase());
+    }
+
     public String getApplicantID() { return applicantID; }
     public String getDocumentType() { return documentType; }
+    public int getDurationInMonths() { return durationInMonths; }
 
     @Override
     public String toString() {
@@ -0,0 +1,20 @@
+package model;
+
+// Everything the static evaluation rules read; implemented by live applications and by snapshots
+public interface EvaluationInput {
+
+    double getGpa();
+
+    boolean getTranscriptStatus();
+
+    boolean hasDocument(String documentType);
+
+    double getFamilyIncome();
+
+    int getDependents();
+
+    int getPublicationCount();
+
+    // Only read by the research rules
+    double getAverageImpact();
+}
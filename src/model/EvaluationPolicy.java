@@ -0,0 +1,81 @@
+package model;
+
+public final class EvaluationPolicy {
+
+    // Reference thresholds used by the regular evaluation run
+    private static final double FULL_SCHOLARSHIP_GPA_THRESHOLD = 3.20;
+    private static final double HALF_SCHOLARSHIP_GPA_THRESHOLD = 3.00;
+    private static final double MERIT_MINIMUM_GPA = 3.00;
+    private static final double BASE_FULL_THRESHOLD = 10000.0;
+    private static final double BASE_HALF_THRESHOLD = 15000.0;
+    private static final double FULL_IMPACT_THRESHOLD = 1.50;
+    private static final double HALF_IMPACT_THRESHOLD = 1.00;
+
+    public static final EvaluationPolicy DEFAULT = new EvaluationPolicy("Default",
+            FULL_SCHOLARSHIP_GPA_THRESHOLD, HALF_SCHOLARSHIP_GPA_THRESHOLD, MERIT_MINIMUM_GPA,
+            BASE_FULL_THRESHOLD, BASE_HALF_THRESHOLD,
+            FULL_IMPACT_THRESHOLD, HALF_IMPACT_THRESHOLD);
+
+    private final String name;
+    private final double meritFullGpa;
+    private final double meritHalfGpa;
+    private final double meritMinimumGpa;
+    private final double needFullThreshold;
+    private final double needHalfThreshold;
+    private final double researchFullImpact;
+    private final double researchHalfImpact;
+
+    public EvaluationPolicy(String name,
+                            double meritFullGpa, double meritHalfGpa, double meritMinimumGpa,
+                            double needFullThreshold, double needHalfThreshold,
+                            double researchFullImpact, double researchHalfImpact) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Policy name cannot be empty");
+        }
+        if (meritHalfGpa > meritFullGpa || needFullThreshold > needHalfThreshold
+                || researchHalfImpact > researchFullImpact) {
+            throw new IllegalArgumentException("Half thresholds must not be stricter than full thresholds");
+        }
+        this.name = name.trim();
+        this.meritFullGpa = meritFullGpa;
+        this.meritHalfGpa = meritHalfGpa;
+        this.meritMinimumGpa = meritMinimumGpa;
+        this.needFullThreshold = needFullThreshold;
+        this.needHalfThreshold = needHalfThreshold;
+        this.researchFullImpact = researchFullImpact;
+        this.researchHalfImpact = researchHalfImpact;
+    }
+
+    // Copies with one threshold group replaced
+    public EvaluationPolicy withMeritThresholds(String name, double fullGpa, double halfGpa, double minimumGpa) {
+        return new EvaluationPolicy(name, fullGpa, halfGpa, minimumGpa,
+                needFullThreshold, needHalfThreshold, researchFullImpact, researchHalfImpact);
+    }
+
+    public EvaluationPolicy withNeedThresholds(String name, double fullThreshold, double halfThreshold) {
+        return new EvaluationPolicy(name, meritFullGpa, meritHalfGpa, meritMinimumGpa,
+                fullThreshold, halfThreshold, researchFullImpact, researchHalfImpact);
+    }
+
+    public EvaluationPolicy withResearchThresholds(String name, double fullImpact, double halfImpact) {
+        return new EvaluationPolicy(name, meritFullGpa, meritHalfGpa, meritMinimumGpa,
+                needFullThreshold, needHalfThreshold, fullImpact, halfImpact);
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public double getMeritFullGpa() { return meritFullGpa; }
+    public double getMeritHalfGpa() { return meritHalfGpa; }
+    public double getMeritMinimumGpa() { return meritMinimumGpa; }
+    public double getNeedFullThreshold() { return needFullThreshold; }
+    public double getNeedHalfThreshold() { return needHalfThreshold; }
+    public double getResearchFullImpact() { return researchFullImpact; }
+    public double getResearchHalfImpact() { return researchHalfImpact; }
+
+    @Override
+    public String toString() {
+        return "EvaluationPolicy{name='" + name + "', merit=" + meritFullGpa + "/" + meritHalfGpa
+                + " (min " + meritMinimumGpa + "), need=" + needFullThreshold + "/" + needHalfThreshold
+                + ", research=" + researchFullImpact + "/" + researchHalfImpact + "}";
+    }
+}
@@ -2,10 +2,6 @@ package model;
 
 public final class MeritBasedScholarship extends Application {
 
-    private static final double FULL_SCHOLARSHIP_GPA_THRESHOLD = 3.20;
-    private static final double HALF_SCHOLARSHIP_GPA_THRESHOLD = 3.00;
-    private static final double MERIT_MINIMUM_GPA = 3.00;
-
     private static final int DURATION_WITH_REC = 2;
     private static final int DURATION_WITHOUT_REC = 1;
 
@@ -26,43 +22,43 @@ public final class MeritBasedScholarship extends Application {
         }
     }
 
-    private boolean meetsMinimumMeritGPA(double gpa) {
-        return gpa >= MERIT_MINIMUM_GPA;
+    private static boolean meetsMinimumMeritGPA(double gpa, EvaluationPolicy policy) {
+        return gpa >= policy.getMeritMinimumGpa();
     }
 
     @Override
-    public void evaluate() {
-        if (!checkGeneralEligibility()) {
-            return;
+    public Decision evaluate() {
+        return applyDecision(evaluate(this, EvaluationPolicy.DEFAULT));
+    }
+
+    // Side-effect free evaluation against the given thresholds
+    public static Decision evaluate(EvaluationInput input, EvaluationPolicy policy) {
+        Decision general = checkGeneralEligibility(
+                input.hasDocument("ENR"), input.getTranscriptStatus(), input.getGpa());
+        if (general != Decision.PENDING) {
+            return general;
         }
 
-        if (!meetsMinimumMeritGPA(applicant.getGpa())) {
-            this.status = "Rejected";
-            this.rejectionReason = "GPA below 3.0";
-            return;
+        if (!meetsMinimumMeritGPA(input.getGpa(), policy)) {
+            return Decision.rejected(Decision.RejectionReason.GPA_BELOW_MERIT_MINIMUM);
         }
 
-        this.status = "Accepted";
-        this.rejectionReason = null;
-        this.scholarshipType = determineScholarshipType();
-        this.durationInYears = calculateDuration();
+        return Decision.accepted(determineScholarshipType(input, policy), calculateDuration(input));
     }
 
-    @Override
-    protected String determineScholarshipType() {
-        double gpa = applicant.getGpa();
-        if (gpa >= FULL_SCHOLARSHIP_GPA_THRESHOLD) return "Full";
-        else if (gpa >= HALF_SCHOLARSHIP_GPA_THRESHOLD) return "Half";
+    private static Decision.Type determineScholarshipType(EvaluationInput input, EvaluationPolicy policy) {
+        double gpa = input.getGpa();
+        if (gpa >= policy.getMeritFullGpa()) return Decision.Type.FULL;
+        else if (gpa >= policy.getMeritHalfGpa()) return Decision.Type.HALF;
         return null;
     }
 
-    @Override
-    protected int calculateDuration() {
-        return hasDocument(RECOMMENDATION_LETTER) ? DURATION_WITH_REC : DURATION_WITHOUT_REC;
+    private static int calculateDuration(EvaluationInput input) {
+        return input.hasDocument(RECOMMENDATION_LETTER) ? DURATION_WITH_REC : DURATION_WITHOUT_REC;
     }
 
     @Override
     public String getScholarshipName() {
         return SCHOLARSHIP_NAME;
     }
-}
\ No newline at end of file
+}
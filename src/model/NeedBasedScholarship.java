@@ -5,10 +5,6 @@ public class NeedBasedScholarship extends Application {
     private double familyIncome;
     private int dependents;
 
-    // Income thresholds (fixed reference values)
-    private static final double BASE_FULL_THRESHOLD = 10000.0;
-    private static final double BASE_HALF_THRESHOLD = 15000.0;
-
     public NeedBasedScholarship(Applicant applicant) {
         super(applicant);
         this.familyIncome = 0.0;
@@ -27,27 +23,35 @@ public class NeedBasedScholarship extends Application {
     }
 
     @Override
-    public void evaluate() {
+    public Decision evaluate() {
+        return applyDecision(evaluate(this, EvaluationPolicy.DEFAULT));
+    }
+
+    // Side-effect free evaluation against the given thresholds
+    public static Decision evaluate(EvaluationInput input, EvaluationPolicy policy) {
+        double familyIncome = input.getFamilyIncome();
+        int dependents = input.getDependents();
+
         // Validate that family info has been set
         if (familyIncome == 0.0 && dependents == 0) {
-            this.status = "Rejected";
-            this.rejectionReason = "Family information not provided";
-            return;
+            return Decision.rejected(Decision.RejectionReason.FAMILY_INFO_MISSING);
         }
 
         // General Controls
-        if (!checkGeneralEligibility()) {
-            return;
+        Decision general = checkGeneralEligibility(
+                input.hasDocument("ENR"), input.getTranscriptStatus(), input.getGpa());
+        if (general != Decision.PENDING) {
+            return general;
         }
 
         // Calculate Thresholds
-        double currentFullThreshold = BASE_FULL_THRESHOLD;
-        double currentHalfThreshold = BASE_HALF_THRESHOLD;
+        double currentFullThreshold = policy.getNeedFullThreshold();
+        double currentHalfThreshold = policy.getNeedHalfThreshold();
 
         double adjustment = 1.0;
 
         // 20% increase if you have a SAV document
-        if (hasDocument("SAV")) {
+        if (input.hasDocument("SAV")) {
             adjustment += 0.20;
         }
         // 10% increase if there are 3+ dependents
@@ -60,31 +64,17 @@ public class NeedBasedScholarship extends Application {
 
         // Financial Control
         if (familyIncome > currentHalfThreshold) {
-            this.status = "Rejected";
-            this.rejectionReason = "Family income exceeds threshold";
-            return;
+            return Decision.rejected(Decision.RejectionReason.INCOME_EXCEEDS_THRESHOLD);
         }
 
         // Acceptance and Type Determination
-        this.status = "Accepted";
-
-        if (familyIncome <= currentFullThreshold) {
-            this.scholarshipType = "Full";
-        } else {
-            this.scholarshipType = "Half";
-        }
+        Decision.Type type = familyIncome <= currentFullThreshold ? Decision.Type.FULL : Decision.Type.HALF;
 
         // Duration (always 1 year for need-based)
-        this.durationInYears = calculateDuration();
+        return Decision.accepted(type, calculateDuration());
     }
 
-    @Override
-    protected String determineScholarshipType() {
-        return scholarshipType;
-    }
-
-    @Override
-    protected int calculateDuration() {
+    private static int calculateDuration() {
         return 1;
     }
 
@@ -94,10 +84,12 @@ public class NeedBasedScholarship extends Application {
     }
 
     // Getters
+    @Override
     public double getFamilyIncome() {
         return familyIncome;
     }
 
+    @Override
     public int getDependents() {
         return dependents;
     }
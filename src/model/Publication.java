@@ -100,7 +100,7 @@ public class Publication {
     // Creates Hash code
     @Override
     public int hashCode() {
-        return applicantID.hashCode() + title.hashCode();
+        return 31 * applicantID.hashCode() + title.hashCode();
     }
 
     // Compares 2 publication based on Impact Factor
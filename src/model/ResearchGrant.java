@@ -7,91 +7,60 @@ public class ResearchGrant extends Application {
     }
 
     @Override
-    public void evaluate() {
-        if (!checkGeneralEligibility()) {
-            return;
-        }
-
-        // Check if there's at least one publication or a proposal document
-        if ((publications == null || publications.isEmpty()) && !hasDocument("GRP")) {
-            this.status = "Rejected";
-            this.rejectionReason = "Missing publication or proposal";
-            return;
-        }
-
-        // If there are publications, check their impact
-        if (publications != null && !publications.isEmpty()) {
-            double avgImpact = calculateAverageImpact();
-
-            if (avgImpact < 1.00) {
-                this.status = "Rejected";
-                this.rejectionReason = "Publication impact too low";
-                return;
-            }
-        }
-
-        this.status = "Accepted";
-        this.scholarshipType = determineScholarshipType();
-        this.durationInYears = calculateDuration();
+    public Decision evaluate() {
+        return applyDecision(evaluate(this, EvaluationPolicy.DEFAULT));
     }
 
-    private double calculateAverageImpact() {
-        if (publications == null || publications.isEmpty()) {
-            return 0.0;
+    // Side-effect free evaluation against the given thresholds
+    public static Decision evaluate(EvaluationInput input, EvaluationPolicy policy) {
+        Decision general = checkGeneralEligibility(
+                input.hasDocument("ENR"), input.getTranscriptStatus(), input.getGpa());
+        if (general != Decision.PENDING) {
+            return general;
         }
 
-        double totalImpact = 0.0;
-        int validCount = 0;
-
-        for (Publication pub : publications) {
-            if (pub != null) {
-                double impact = pub.getImpactFactor();
-                if (impact < 0) {
-                    throw new IllegalStateException("Publication with negative impact factor detected");
-                }
-                totalImpact += impact;
-                validCount++;
-            }
+        // Check if there's at least one publication or a proposal document
+        if (input.getPublicationCount() == 0 && !input.hasDocument("GRP")) {
+            return Decision.rejected(Decision.RejectionReason.MISSING_PUBLICATION);
         }
 
-        // Prevent division by zero
-        if (validCount == 0) {
-            return 0.0;
+        // If there are publications, check their impact
+        double avgImpact = input.getPublicationCount() > 0 ? input.getAverageImpact() : 0.0;
+        if (input.getPublicationCount() > 0 && avgImpact < policy.getResearchHalfImpact()) {
+            return Decision.rejected(Decision.RejectionReason.IMPACT_TOO_LOW);
         }
 
-        return totalImpact / validCount;
+        Decision.Type type = determineScholarshipType(input, avgImpact, policy);
+        return Decision.accepted(type, calculateDuration(input, type));
     }
 
-    @Override
-    protected String determineScholarshipType() {
+    private static Decision.Type determineScholarshipType(EvaluationInput input, double avgImpact,
+                                                          EvaluationPolicy policy) {
         // If only proposal document exists (no publications)
-        if (publications == null || publications.isEmpty()) {
-            if (hasDocument("GRP")) {
-                return "Half";
+        if (input.getPublicationCount() == 0) {
+            if (input.hasDocument("GRP")) {
+                return Decision.Type.HALF;
             }
             return null;
         }
 
-        double avgImpact = calculateAverageImpact();
-
-        if (avgImpact >= 1.50) {
-            return "Full";
-        } else if (avgImpact >= 1.00) {
-            return "Half";
+        if (avgImpact >= policy.getResearchFullImpact()) {
+            return Decision.Type.FULL;
+        } else if (avgImpact >= policy.getResearchHalfImpact()) {
+            return Decision.Type.HALF;
         }
 
         return null;
     }
 
-    @Override
-    protected int calculateDuration() {
-        if (scholarshipType == null) {
+    private static int calculateDuration(EvaluationInput input, Decision.Type type) {
+        if (type == null) {
             return 0;
         }
 
-        double baseDuration = "Full".equals(scholarshipType) ? 1.0 : 0.5;
+        double baseDuration = type == Decision.Type.FULL ? 1.0 : 0.5;
 
-        if (hasDocument("RSV")) {
+        if (input.hasDocument("RSV")) {
             baseDuration += 1.0;
         }
 
@@ -102,4 +71,4 @@ public class ResearchGrant extends Application {
     public String getScholarshipName() {
         return "Research";
     }
-}
\ No newline at end of file
+}
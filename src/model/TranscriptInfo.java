@@ -42,6 +42,13 @@ public final class TranscriptInfo {
         if (applicantID.trim().length() < 4) throw new IllegalArgumentException("Invalid ID length");
     }
 
+    // True when the status text is one of the accepted positive or negative values
+    public static boolean isValidStatus(String status) {
+        if (status == null) return false;
+        String normalized = status.trim().toUpperCase();
+        return POSITIVE_STATUS_VALUES.contains(normalized) || NEGATIVE_STATUS_VALUES.contains(normalized);
+    }
+
     private boolean parseStatus(String status) {
         String normalized = status.trim().toUpperCase();
         if (POSITIVE_STATUS_VALUES.contains(normalized)) return true;
@@ -0,0 +1,250 @@
+package service;
+
+import model.Application;
+import model.Decision;
+import model.NeedBasedScholarship;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Secondary indexes over evaluated applications. Every query returns a fresh BitSet of
+// row numbers, so results can be combined with and()/or() without touching the index.
+public class ApplicationIndex {
+
+    private static final BitSet EMPTY = new BitSet();
+
+    private final List<Application> applications;
+
+    // Bitmap indexes
+    private final Map<String, BitSet> byKind = new HashMap<>();
+    private final Map<Decision.Status, BitSet> byStatus = new EnumMap<>(Decision.Status.class);
+    private final Map<Decision.Type, BitSet> byType = new EnumMap<>(Decision.Type.class);
+    private final Map<Decision.RejectionReason, BitSet> byReason = new EnumMap<>(Decision.RejectionReason.class);
+    private final Map<Integer, BitSet> byDuration = new HashMap<>();
+
+    // Sorted indexes for range queries
+    private final SortedColumn gpa;
+    private final SortedColumn income;
+    private final SortedColumn familyIncome;
+
+    // Builds the indexes; the applications must already be evaluated
+    public ApplicationIndex(List<Application> applications) {
+        if (applications == null) {
+            throw new IllegalArgumentException("Applications cannot be null");
+        }
+        this.applications = new ArrayList<>(applications);
+
+        int rows = this.applications.size();
+        double[] gpaValues = new double[rows];
+        double[] incomeValues = new double[rows];
+        double[] familyIncomeValues = new double[rows];
+        BitSet needBased = new BitSet(rows);
+
+        for (int row = 0; row < rows; row++) {
+            Application app = this.applications.get(row);
+            Decision decision = app.getDecision();
+
+            byKind.computeIfAbsent(app.getScholarshipName(), k -> new BitSet(rows)).set(row);
+            byStatus.computeIfAbsent(decision.getStatus(), k -> new BitSet(rows)).set(row);
+            if (decision.getType() != null) {
+                byType.computeIfAbsent(decision.getType(), k -> new BitSet(rows)).set(row);
+            }
+            if (decision.getRejectionReason() != null) {
+                byReason.computeIfAbsent(decision.getRejectionReason(), k -> new BitSet(rows)).set(row);
+            }
+            if (decision.isAccepted()) {
+                byDuration.computeIfAbsent(decision.getDurationInYears(), k -> new BitSet(rows)).set(row);
+            }
+
+            gpaValues[row] = app.getApplicant().getGpa();
+            incomeValues[row] = app.getApplicant().getIncome();
+            if (app instanceof NeedBasedScholarship) {
+                familyIncomeValues[row] = ((NeedBasedScholarship) app).getFamilyIncome();
+                needBased.set(row);
+            }
+        }
+
+        this.gpa = new SortedColumn(gpaValues, null);
+        this.income = new SortedColumn(incomeValues, null);
+        this.familyIncome = new SortedColumn(familyIncomeValues, needBased);
+    }
+
+    // Equality queries
+    public BitSet kind(String scholarshipName) { return copyOf(byKind.get(scholarshipName)); }
+    public BitSet status(Decision.Status status) { return copyOf(byStatus.get(status)); }
+    public BitSet type(Decision.Type type) { return copyOf(byType.get(type)); }
+    public BitSet reason(Decision.RejectionReason reason) { return copyOf(byReason.get(reason)); }
+    public BitSet duration(int durationInYears) { return copyOf(byDuration.get(durationInYears)); }
+
+    // Range queries, both bounds inclusive
+    public BitSet gpaBetween(double min, double max) { return gpa.between(min, max); }
+    public BitSet incomeBetween(double min, double max) { return income.between(min, max); }
+
+    // Only Need-Based applications carry family income
+    public BitSet familyIncomeBetween(double min, double max) { return familyIncome.between(min, max); }
+
+    public BitSet all() {
+        BitSet rows = new BitSet(applications.size());
+        rows.set(0, applications.size());
+        return rows;
+    }
+
+    public static BitSet and(BitSet first, BitSet... others) {
+        BitSet result = copyOf(first);
+        for (BitSet other : others) {
+            result.and(other);
+        }
+        return result;
+    }
+
+    public static BitSet or(BitSet first, BitSet... others) {
+        BitSet result = copyOf(first);
+        for (BitSet other : others) {
+            result.or(other);
+        }
+        return result;
+    }
+
+    public static BitSet andNot(BitSet rows, BitSet excluded) {
+        BitSet result = copyOf(rows);
+        result.andNot(excluded);
+        return result;
+    }
+
+    public int count(BitSet rows) {
+        return rows.cardinality();
+    }
+
+    public List<Application> select(BitSet rows) {
+        List<Application> result = new ArrayList<>(rows.cardinality());
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            result.add(applications.get(row));
+        }
+        return result;
+    }
+
+    public int size() {
+        return applications.size();
+    }
+
+    private static BitSet copyOf(BitSet rows) {
+        return rows == null ? new BitSet() : (BitSet) rows.clone();
+    }
+
+    // Values kept sorted next to their row numbers, answered with two binary searches
+    private static class SortedColumn {
+        private static final int INSERTION_SORT_LIMIT = 16;
+
+        private final double[] values;
+        private final int[] rows;
+
+        SortedColumn(double[] columnValues, BitSet included) {
+            double[] sortedValues = new double[columnValues.length];
+            int[] sortedRows = new int[columnValues.length];
+            int count = 0;
+            for (int row = 0; row < columnValues.length; row++) {
+                if (included == null || included.get(row)) {
+                    sortedValues[count] = columnValues[row];
+                    sortedRows[count++] = row;
+                }
+            }
+            this.values = Arrays.copyOf(sortedValues, count);
+            this.rows = Arrays.copyOf(sortedRows, count);
+            sort(values, rows, 0, count);
+        }
+
+        // Sorts values[from, to) in Double.compare order and moves rows along with them.
+        // Three-way quicksort on the primitive arrays, so runs of equal values (common for GPAs)
+        // are split off in one pass and nothing is boxed.
+        private static void sort(double[] values, int[] rows, int from, int to) {
+            while (to - from > INSERTION_SORT_LIMIT) {
+                double pivot = medianOfThree(values[from], values[(from + to) >>> 1], values[to - 1]);
+                int less = from;
+                int greater = to;
+                int i = from;
+                while (i < greater) {
+                    int order = Double.compare(values[i], pivot);
+                    if (order < 0) {
+                        swap(values, rows, less++, i++);
+                    } else if (order > 0) {
+                        swap(values, rows, i, --greater);
+                    } else {
+                        i++;
+                    }
+                }
+                // Recurse into the smaller side and loop on the larger one to bound the stack depth
+                if (less - from < to - greater) {
+                    sort(values, rows, from, less);
+                    from = greater;
+                } else {
+                    sort(values, rows, greater, to);
+                    to = less;
+                }
+            }
+            for (int i = from + 1; i < to; i++) {
+                for (int j = i; j > from && Double.compare(values[j - 1], values[j]) > 0; j--) {
+                    swap(values, rows, j - 1, j);
+                }
+            }
+        }
+
+        private static double medianOfThree(double a, double b, double c) {
+            if (Double.compare(a, b) > 0) {
+                double t = a;
+                a = b;
+                b = t;
+            }
+            if (Double.compare(b, c) > 0) {
+                b = c;
+            }
+            return Double.compare(a, b) > 0 ? a : b;
+        }
+
+        private static void swap(double[] values, int[] rows, int i, int j) {
+            double value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+            int row = rows[i];
+            rows[i] = rows[j];
+            rows[j] = row;
+        }
+
+        BitSet between(double min, double max) {
+            if (min > max) {
+                return copyOf(EMPTY);
+            }
+            BitSet result = new BitSet();
+            int end = firstAbove(max);
+            for (int i = firstAtLeast(min); i < end; i++) {
+                result.set(rows[i]);
+            }
+            return result;
+        }
+
+        private int firstAtLeast(double value) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < value) low = mid + 1;
+                else high = mid;
+            }
+            return low;
+        }
+
+        private int firstAbove(double value) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] <= value) low = mid + 1;
+                else high = mid;
+            }
+            return low;
+        }
+    }
+}
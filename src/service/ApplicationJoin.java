@@ -0,0 +1,419 @@
+package service;
+
+import model.*;
+import util.CSVParser;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Join state between parsed CSV records and the applications built from them.
+// Records can be added in any order and at any time; toApplications() builds from what is there.
+class ApplicationJoin {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Applicant[] applicants;
+    private int applicantCount;
+
+    // Open-addressing table of applicant slot + 1 keyed by applicant ID, 0 marks an empty entry.
+    // The ID hash of each slot is kept alongside so probes rarely need equals().
+    private int[] slotTable;
+    private int[] slotHashes;
+
+    private final Map<String, TranscriptInfo> transcripts;
+    private final Map<String, FamilyInfo> familyInfos;
+
+    private Document[] documents;
+    private int documentCount;
+    private final PublicationIndex publications;
+
+    ApplicationJoin() {
+        this(PublicationIndex.DuplicatePolicy.KEEP_FIRST);
+    }
+
+    ApplicationJoin(PublicationIndex.DuplicatePolicy duplicatePolicy) {
+        this.applicants = new Applicant[DEFAULT_CAPACITY];
+        this.slotTable = new int[DEFAULT_CAPACITY * 2];
+        this.slotHashes = new int[DEFAULT_CAPACITY];
+        this.transcripts = new HashMap<>();
+        this.familyInfos = new HashMap<>();
+        this.documents = new Document[DEFAULT_CAPACITY];
+        this.publications = new PublicationIndex(duplicatePolicy, DEFAULT_CAPACITY);
+    }
+
+    // Adds one parsed CSV line; unknown prefixes are ignored
+    void accept(String[] data) {
+        try {
+            accept(data, null);
+        } catch (IOException e) {
+            // Only writing to a log can fail
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Same as accept(data), and also appends the record to log in the binary form readRecord() takes.
+    // Returns false when the line held no record.
+    boolean accept(String[] data, DataOutputStream log) throws IOException {
+        if (data.length == 0) {
+            return false;
+        }
+
+        String prefix = data[0];
+
+        switch (prefix) {
+            case "A":
+                String appID = data[1];
+                double gpa = CSVParser.parseDouble(data[3], 0.0);
+                double income = CSVParser.parseDouble(data[4], 0.0);
+                Applicant applicant = new Applicant(appID, data[2], gpa, income);
+                addApplicant(applicant);
+                if (log != null) writeApplicant(log, applicant);
+                return true;
+
+            case "T":
+                TranscriptInfo transcript = new TranscriptInfo(data[1], data[2]);
+                transcripts.put(data[1], transcript);
+                if (log != null) writeTranscript(log, data[1], transcript);
+                return true;
+
+            case "I":
+                double famIncome = CSVParser.parseDouble(data[2], 0.0);
+                int deps = CSVParser.parseInt(data[3], 0);
+                FamilyInfo info = new FamilyInfo(famIncome, deps);
+                familyInfos.put(data[1], info);
+                if (log != null) writeFamilyInfo(log, data[1], info);
+                return true;
+
+            case "D":
+                int duration = CSVParser.parseInt(data[3], 0);
+                Document document = new Document(data[1], data[2], duration);
+                addDocument(document);
+                if (log != null) writeDocument(log, document);
+                return true;
+
+            case "P":
+                double impact = CSVParser.parseDouble(data[3], 0.0);
+                Publication publication = new Publication(data[1], data[2], impact);
+                publications.add(publication);
+                if (log != null) writePublication(log, publication);
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    // Applies one record written by accept(data, log) or writeState()
+    void readRecord(DataInputStream in) throws IOException {
+        byte kind = in.readByte();
+        switch (kind) {
+            case 'A':
+                addApplicant(new Applicant(in.readUTF(), in.readUTF(), in.readDouble(), in.readDouble()));
+                break;
+            case 'T':
+                String transcriptID = in.readUTF();
+                transcripts.put(transcriptID, new TranscriptInfo(transcriptID, in.readBoolean()));
+                break;
+            case 'I':
+                String familyID = in.readUTF();
+                familyInfos.put(familyID, new FamilyInfo(in.readDouble(), in.readInt()));
+                break;
+            case 'D':
+                addDocument(new Document(in.readUTF(), in.readUTF(), in.readInt()));
+                break;
+            case 'P':
+                publications.add(new Publication(in.readUTF(), in.readUTF(), in.readDouble()));
+                break;
+            default:
+                throw new IOException("Unknown record kind: " + kind);
+        }
+    }
+
+    // Writes the current state as records; reading them into an empty join rebuilds this state.
+    // Returns the number of records written.
+    int writeState(DataOutputStream out) throws IOException {
+        for (int slot = 0; slot < applicantCount; slot++) {
+            writeApplicant(out, applicants[slot]);
+        }
+        for (Map.Entry<String, TranscriptInfo> entry : transcripts.entrySet()) {
+            writeTranscript(out, entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, FamilyInfo> entry : familyInfos.entrySet()) {
+            writeFamilyInfo(out, entry.getKey(), entry.getValue());
+        }
+        for (int i = 0; i < documentCount; i++) {
+            writeDocument(out, documents[i]);
+        }
+        for (int i = 0; i < publications.size(); i++) {
+            writePublication(out, publications.get(i));
+        }
+        return recordCount();
+    }
+
+    // Number of records the current state is made of
+    int recordCount() {
+        return applicantCount + transcripts.size() + familyInfos.size() + documentCount + publications.size();
+    }
+
+    private static void writeApplicant(DataOutputStream out, Applicant applicant) throws IOException {
+        out.writeByte('A');
+        out.writeUTF(applicant.getApplicantID());
+        out.writeUTF(applicant.getName());
+        out.writeDouble(applicant.getGpa());
+        out.writeDouble(applicant.getIncome());
+    }
+
+    private static void writeTranscript(DataOutputStream out, String applicantID, TranscriptInfo transcript)
+            throws IOException {
+        out.writeByte('T');
+        out.writeUTF(applicantID);
+        out.writeBoolean(transcript.isValid());
+    }
+
+    private static void writeFamilyInfo(DataOutputStream out, String applicantID, FamilyInfo info)
+            throws IOException {
+        out.writeByte('I');
+        out.writeUTF(applicantID);
+        out.writeDouble(info.getFamilyIncome());
+        out.writeInt(info.getDependents());
+    }
+
+    private static void writeDocument(DataOutputStream out, Document document) throws IOException {
+        out.writeByte('D');
+        out.writeUTF(document.getApplicantID());
+        out.writeUTF(document.getDocumentType());
+        out.writeInt(document.getDurationInMonths());
+    }
+
+    private static void writePublication(DataOutputStream out, Publication publication) throws IOException {
+        out.writeByte('P');
+        out.writeUTF(publication.getApplicantID());
+        out.writeUTF(publication.getTitle());
+        out.writeDouble(publication.getImpactFactor());
+    }
+
+    // Checks a parsed line without throwing; null means accept() can take it safely
+    static RowError check(String[] data) {
+        if (data.length == 0) {
+            return null;
+        }
+
+        switch (data[0]) {
+            case "A":
+                if (data.length < 5) return RowError.MISSING_FIELDS;
+                if (!Applicant.isValidApplicantID(data[1])) return RowError.INVALID_APPLICANT_ID;
+                if (!isKnownTypeCode(data[1])) return RowError.UNKNOWN_SCHOLARSHIP_TYPE;
+                if (!CSVParser.isFiniteDecimal(data[3]) || !CSVParser.isFiniteDecimal(data[4])) return RowError.INVALID_NUMBER;
+                return null;
+
+            case "T":
+                if (data.length < 3) return RowError.MISSING_FIELDS;
+                if (!Applicant.isValidApplicantID(data[1])) return RowError.INVALID_APPLICANT_ID;
+                if (!TranscriptInfo.isValidStatus(data[2])) return RowError.INVALID_TRANSCRIPT_STATUS;
+                return null;
+
+            case "I":
+                if (data.length < 4) return RowError.MISSING_FIELDS;
+                if (!Applicant.isValidApplicantID(data[1])) return RowError.INVALID_APPLICANT_ID;
+                if (!CSVParser.isFiniteDecimal(data[2]) || !CSVParser.isInteger(data[3])) return RowError.INVALID_NUMBER;
+                if (data[2].startsWith("-") || data[3].startsWith("-")) return RowError.NEGATIVE_VALUE;
+                return null;
+
+            case "D":
+                if (data.length < 4) return RowError.MISSING_FIELDS;
+                if (!Applicant.isValidApplicantID(data[1])) return RowError.INVALID_APPLICANT_ID;
+                if (!Document.isValidDocumentType(data[2])) return RowError.INVALID_DOCUMENT_TYPE;
+                if (!CSVParser.isInteger(data[3])) return RowError.INVALID_NUMBER;
+                return null;
+
+            case "P":
+                if (data.length < 4) return RowError.MISSING_FIELDS;
+                if (!Applicant.isValidApplicantID(data[1])) return RowError.INVALID_APPLICANT_ID;
+                if (!CSVParser.isFiniteDecimal(data[3])) return RowError.INVALID_NUMBER;
+                if (data[3].startsWith("-")) return RowError.NEGATIVE_VALUE;
+                return null;
+
+            default:
+                return RowError.UNKNOWN_RECORD_TYPE;
+        }
+    }
+
+    private static boolean isKnownTypeCode(String applicantID) {
+        String id = applicantID.trim();
+        return id.startsWith("11") || id.startsWith("22") || id.startsWith("33");
+    }
+
+    private void addApplicant(Applicant applicant) {
+        String applicantID = applicant.getApplicantID();
+        int hash = applicantID.hashCode();
+        int mask = slotTable.length - 1;
+        int entry = mix(hash) & mask;
+        while (slotTable[entry] != 0) {
+            int slot = slotTable[entry] - 1;
+            if (slotHashes[slot] == hash && applicants[slot].getApplicantID().equals(applicantID)) {
+                applicants[slot] = applicant;
+                return;
+            }
+            entry = (entry + 1) & mask;
+        }
+
+        if (applicantCount == applicants.length) {
+            int capacity = grow(applicants.length);
+            applicants = Arrays.copyOf(applicants, capacity);
+            slotHashes = Arrays.copyOf(slotHashes, capacity);
+        }
+        applicants[applicantCount] = applicant;
+        slotHashes[applicantCount] = hash;
+        applicantCount++;
+        slotTable[entry] = applicantCount;
+
+        // Keep the table at most half full
+        if (applicantCount * 2 > slotTable.length) {
+            rehashSlots(slotTable.length * 2);
+        }
+    }
+
+    private void rehashSlots(int newSize) {
+        slotTable = new int[newSize];
+        int mask = newSize - 1;
+        for (int slot = 0; slot < applicantCount; slot++) {
+            int entry = mix(slotHashes[slot]) & mask;
+            while (slotTable[entry] != 0) {
+                entry = (entry + 1) & mask;
+            }
+            slotTable[entry] = slot + 1;
+        }
+    }
+
+    private void addDocument(Document document) {
+        if (documentCount == documents.length) {
+            documents = Arrays.copyOf(documents, grow(documents.length));
+        }
+        documents[documentCount++] = document;
+    }
+
+    PublicationIndex getPublications() {
+        return publications;
+    }
+
+    ArrayList<Application> toApplications() {
+        // Group documents and publications by applicant slot (stable, keeps file order)
+        int[] documentOffsets = new int[applicantCount + 1];
+        Document[] documentsBySlot = new Document[documentCount];
+        int[] documentOwners = new int[documentCount];
+        for (int i = 0; i < documentCount; i++) {
+            documentOwners[i] = slotOf(documents[i].getApplicantID());
+        }
+        groupBySlot(documents, documentOwners, documentCount, documentOffsets, documentsBySlot);
+
+        int publicationCount = publications.size();
+        Publication[] publicationList = new Publication[publicationCount];
+        int[] publicationOwners = new int[publicationCount];
+        for (int i = 0; i < publicationCount; i++) {
+            publicationList[i] = publications.get(i);
+            publicationOwners[i] = slotOf(publicationList[i].getApplicantID());
+        }
+        int[] publicationOffsets = new int[applicantCount + 1];
+        Publication[] publicationsBySlot = new Publication[publicationCount];
+        groupBySlot(publicationList, publicationOwners, publicationCount, publicationOffsets, publicationsBySlot);
+
+        ArrayList<Application> applications = new ArrayList<>(applicantCount);
+
+        for (int slot = 0; slot < applicantCount; slot++) {
+            Applicant applicant = applicants[slot];
+            String applicantID = applicant.getApplicantID();
+
+            Application application = createApplicationByType(applicant);
+
+            TranscriptInfo transcript = transcripts.get(applicantID);
+            if (transcript != null) {
+                application.setTranscriptStatus(transcript.isValid());
+            }
+
+            for (int i = documentOffsets[slot]; i < documentOffsets[slot + 1]; i++) {
+                application.addDocument(documentsBySlot[i]);
+            }
+
+            for (int i = publicationOffsets[slot]; i < publicationOffsets[slot + 1]; i++) {
+                application.addPublication(publicationsBySlot[i]);
+            }
+
+            if (application instanceof NeedBasedScholarship) {
+                FamilyInfo info = familyInfos.get(applicantID);
+                if (info != null) {
+                    ((NeedBasedScholarship) application).setFamilyInfo(info.getFamilyIncome(), info.getDependents());
+                }
+            }
+
+            applications.add(application);
+        }
+
+        return applications;
+    }
+
+    static Application createApplicationByType(Applicant applicant) {
+        String typeCode = applicant.getScholarshipTypeCode();
+        switch (typeCode) {
+            case "11": return new MeritBasedScholarship(applicant);
+            case "22": return new NeedBasedScholarship(applicant);
+            case "33": return new ResearchGrant(applicant);
+            default: throw new IllegalArgumentException("Unknown scholarship type: " + typeCode);
+        }
+    }
+
+    // Moves records[i] into the block of its owner slot; offsets[slot]..offsets[slot + 1] is the block
+    private static <T> void groupBySlot(T[] records, int[] owners, int count, int[] offsets, T[] grouped) {
+        for (int i = 0; i < count; i++) {
+            if (owners[i] >= 0) {
+                offsets[owners[i] + 1]++;
+            }
+        }
+        for (int slot = 1; slot < offsets.length; slot++) {
+            offsets[slot] += offsets[slot - 1];
+        }
+        int[] cursor = Arrays.copyOf(offsets, offsets.length - 1);
+        for (int i = 0; i < count; i++) {
+            if (owners[i] >= 0) {
+                grouped[cursor[owners[i]]++] = records[i];
+            }
+        }
+    }
+
+    private int slotOf(String applicantID) {
+        int hash = applicantID.hashCode();
+        int mask = slotTable.length - 1;
+        for (int entry = mix(hash) & mask; slotTable[entry] != 0; entry = (entry + 1) & mask) {
+            int slot = slotTable[entry] - 1;
+            if (slotHashes[slot] == hash && applicants[slot].getApplicantID().equals(applicantID)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    // Spreads String.hashCode() so IDs that differ only in their last digits do not cluster
+    private static int mix(int hash) {
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int grow(int length) {
+        return Math.max(DEFAULT_CAPACITY, length + (length >> 1));
+    }
+
+    private static class FamilyInfo {
+        private double familyIncome;
+        private int dependents;
+
+        public FamilyInfo(double familyIncome, int dependents) {
+            this.familyIncome = familyIncome;
+            this.dependents = dependents;
+        }
+        public double getFamilyIncome() { return familyIncome; }
+        public int getDependents() { return dependents; }
+    }
+}
@@ -0,0 +1,52 @@
+package service;
+
+import model.Application;
+import model.Decision;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Result of an AwardAllocator run: awarded applications per category, best ranked first
+public class AwardAllocation {
+
+    private final Map<String, List<Application>> awards;
+    private final Map<String, Long> waitlisted;
+
+    AwardAllocation(Map<String, List<Application>> awards, Map<String, Long> waitlisted) {
+        this.awards = new TreeMap<>(awards);
+        this.waitlisted = new TreeMap<>(waitlisted);
+    }
+
+    static String categoryOf(String scholarshipName, Decision.Type type) {
+        return scholarshipName + " " + type;
+    }
+
+    public List<Application> getAwarded(String scholarshipName, Decision.Type type) {
+        List<Application> awarded = awards.get(categoryOf(scholarshipName, type));
+        return awarded == null ? Collections.emptyList() : Collections.unmodifiableList(awarded);
+    }
+
+    // Accepted applicants in the category who did not fit under its cap
+    public long getWaitlistedCount(String scholarshipName, Decision.Type type) {
+        return waitlisted.getOrDefault(categoryOf(scholarshipName, type), 0L);
+    }
+
+    public boolean isAwarded(Application application) {
+        return getAwarded(application.getScholarshipName(), application.getDecision().getType()).contains(application);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, List<Application>> entry : awards.entrySet()) {
+            sb.append(entry.getKey()).append(": ").append(entry.getValue().size()).append(" awarded");
+            Long skipped = waitlisted.get(entry.getKey());
+            if (skipped != null) {
+                sb.append(", ").append(skipped).append(" waitlisted");
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,128 @@
+package service;
+
+import model.Application;
+import model.Decision;
+import model.NeedBasedScholarship;
+import model.ResearchGrant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// Hands out a limited number of Full and Half awards per scholarship kind among accepted
+// applications. Candidates stream through one bounded heap per category, so allocation takes
+// O(n log k) time and O(k) memory for a cap of k.
+//   Merit:      higher GPA first
+//   Need-Based: lower family income first
+//   Research:   higher average publication impact first
+// Equal scores go to the lower applicant ID.
+public class AwardAllocator {
+
+    // Best candidate first
+    private static final Comparator<Candidate> BEST_FIRST = new Comparator<Candidate>() {
+        @Override
+        public int compare(Candidate c1, Candidate c2) {
+            int byScore = Double.compare(c2.score, c1.score);
+            if (byScore != 0) {
+                return byScore;
+            }
+            return EvaluationService.BY_APPLICANT_ID.compare(c1.application, c2.application);
+        }
+    };
+
+    private final Map<String, Integer> caps = new HashMap<>();
+    private final Map<String, PriorityQueue<Candidate>> heaps = new HashMap<>();
+    private final Map<String, List<Application>> uncapped = new HashMap<>();
+    private final Map<String, Long> waitlisted = new HashMap<>();
+
+    // Caps the number of awards of one type; categories without a cap award every accepted applicant
+    public AwardAllocator setCap(String scholarshipName, Decision.Type type, int cap) {
+        if (cap < 0) {
+            throw new IllegalArgumentException("Award cap cannot be negative");
+        }
+        caps.put(AwardAllocation.categoryOf(scholarshipName, type), cap);
+        return this;
+    }
+
+    public AwardAllocation allocate(Iterable<Application> applications) {
+        for (Application application : applications) {
+            offer(application);
+        }
+        return finish();
+    }
+
+    // Streams one evaluated application through its category; rejected applications are ignored
+    public void offer(Application application) {
+        Decision decision = application.getDecision();
+        if (!decision.isAccepted()) {
+            return;
+        }
+
+        String category = AwardAllocation.categoryOf(application.getScholarshipName(), decision.getType());
+        Integer cap = caps.get(category);
+        if (cap == null) {
+            uncapped.computeIfAbsent(category, k -> new ArrayList<>()).add(application);
+            return;
+        }
+
+        // Head of the heap is the weakest award holder
+        PriorityQueue<Candidate> heap = heaps.computeIfAbsent(category,
+                k -> new PriorityQueue<>(Math.max(1, cap), BEST_FIRST.reversed()));
+        Candidate candidate = new Candidate(application, scoreOf(application));
+
+        if (heap.size() < cap) {
+            heap.add(candidate);
+            return;
+        }
+        if (!heap.isEmpty() && BEST_FIRST.compare(candidate, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(candidate);
+        }
+        waitlisted.merge(category, 1L, Long::sum);
+    }
+
+    // Returns the awards collected so far and resets the allocator for another run
+    public AwardAllocation finish() {
+        Map<String, List<Application>> awards = new HashMap<>();
+        for (Map.Entry<String, PriorityQueue<Candidate>> entry : heaps.entrySet()) {
+            List<Candidate> ranked = new ArrayList<>(entry.getValue());
+            Collections.sort(ranked, BEST_FIRST);
+            List<Application> awarded = new ArrayList<>(ranked.size());
+            for (Candidate candidate : ranked) {
+                awarded.add(candidate.application);
+            }
+            awards.put(entry.getKey(), awarded);
+        }
+        awards.putAll(uncapped);
+
+        AwardAllocation allocation = new AwardAllocation(awards, new HashMap<>(waitlisted));
+        heaps.clear();
+        uncapped.clear();
+        waitlisted.clear();
+        return allocation;
+    }
+
+    // Higher is better
+    private static double scoreOf(Application application) {
+        if (application instanceof NeedBasedScholarship) {
+            return -((NeedBasedScholarship) application).getFamilyIncome();
+        }
+        if (application instanceof ResearchGrant) {
+            return application.getAverageImpact();
+        }
+        return application.getApplicant().getGpa();
+    }
+
+    private static class Candidate {
+        private final Application application;
+        private final double score;
+
+        Candidate(Application application, double score) {
+            this.application = application;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package service;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+// Reads files written by DecisionColumnWriter. Only the header is read up front;
+// each column is read and decoded when it is asked for.
+public class DecisionColumnReader implements AutoCloseable {
+
+    private final RandomAccessFile file;
+    private final int rowCount;
+    private final int[] offsets = new int[DecisionColumnWriter.COLUMN_COUNT];
+    private final int[] lengths = new int[DecisionColumnWriter.COLUMN_COUNT];
+
+    public DecisionColumnReader(String filePath) throws IOException {
+        this.file = new RandomAccessFile(filePath, "r");
+        try {
+            if (file.readInt() != DecisionColumnWriter.MAGIC) {
+                throw new IOException("Not a decision column file: " + filePath);
+            }
+            int version = file.readUnsignedByte();
+            if (version != DecisionColumnWriter.VERSION) {
+                throw new IOException("Unsupported decision column file version: " + version);
+            }
+            this.rowCount = file.readInt();
+            int columns = file.readUnsignedByte();
+            for (int i = 0; i < columns; i++) {
+                int column = file.readUnsignedByte();
+                int offset = file.readInt();
+                int length = file.readInt();
+                if (column < offsets.length) {
+                    offsets[column] = offset;
+                    lengths[column] = length;
+                }
+            }
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public long[] readApplicantIDs() throws IOException {
+        byte[] column = readColumn(DecisionColumnWriter.COLUMN_ID);
+        long[] ids = new long[rowCount];
+        int position = 0;
+        long previous = 0;
+        for (int row = 0; row < rowCount; row++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = column[position++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            previous += delta;
+            ids[row] = previous;
+        }
+        return ids;
+    }
+
+    public String[] readScholarshipNames() throws IOException {
+        return readDictionaryColumn(DecisionColumnWriter.COLUMN_KIND);
+    }
+
+    public String[] readStatuses() throws IOException {
+        return readDictionaryColumn(DecisionColumnWriter.COLUMN_STATUS);
+    }
+
+    public String[] readScholarshipTypes() throws IOException {
+        return readDictionaryColumn(DecisionColumnWriter.COLUMN_TYPE);
+    }
+
+    public String[] readRejectionReasons() throws IOException {
+        return readDictionaryColumn(DecisionColumnWriter.COLUMN_REASON);
+    }
+
+    public int[] readDurations() throws IOException {
+        return decodePacked(readColumn(DecisionColumnWriter.COLUMN_DURATION), 0, rowCount);
+    }
+
+    private String[] readDictionaryColumn(int column) throws IOException {
+        byte[] bytes = readColumn(column);
+        ByteArrayInputStream buffer = new ByteArrayInputStream(bytes);
+        DataInputStream in = new DataInputStream(buffer);
+
+        int size = (int) readVarLong(in);
+        String[] dictionary = new String[size];
+        for (int i = 0; i < size; i++) {
+            dictionary[i] = in.readBoolean() ? in.readUTF() : null;
+        }
+
+        int[] indexes = decodePacked(bytes, bytes.length - buffer.available(), rowCount);
+        String[] values = new String[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            values[row] = dictionary[indexes[row]];
+        }
+        return values;
+    }
+
+    private byte[] readColumn(int column) throws IOException {
+        byte[] bytes = new byte[lengths[column]];
+        file.seek(offsets[column]);
+        file.readFully(bytes);
+        return bytes;
+    }
+
+    private static int[] decodePacked(byte[] bytes, int start, int count) {
+        int width = bytes[start];
+        int[] values = new int[count];
+        long bitPosition = 0;
+        for (int i = 0; i < count; i++) {
+            int value = 0;
+            for (int bit = 0; bit < width; bit++, bitPosition++) {
+                if ((bytes[start + 1 + (int) (bitPosition >>> 3)] & (1 << (bitPosition & 7))) != 0) {
+                    value |= 1 << bit;
+                }
+            }
+            values[i] = value;
+        }
+        return values;
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+}
@@ -0,0 +1,189 @@
+package service;
+
+import model.Application;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Writes evaluated applications as a compact column file, one block per column:
+//   header:    magic, version, row count, column directory (id, offset, length)
+//   ID:        applicant IDs sorted ascending, delta encoded as varints
+//   KIND, STATUS, TYPE, REASON: value dictionary followed by bit-packed dictionary indexes
+//   DURATION:  bit-packed durations
+public class DecisionColumnWriter {
+
+    static final int MAGIC = 0x53444543; // "SDEC"
+    static final int VERSION = 1;
+
+    static final int COLUMN_ID = 0;
+    static final int COLUMN_KIND = 1;
+    static final int COLUMN_STATUS = 2;
+    static final int COLUMN_TYPE = 3;
+    static final int COLUMN_REASON = 4;
+    static final int COLUMN_DURATION = 5;
+    static final int COLUMN_COUNT = 6;
+
+    // magic + version + row count + column count + directory entries
+    static final int HEADER_SIZE = 4 + 1 + 4 + 1 + COLUMN_COUNT * (1 + 4 + 4);
+
+    public void write(List<Application> applications, String filePath) throws IOException {
+        // Sort by the numeric ID itself; IDs too long for an int must still come out ascending
+        List<Row> sorted = new ArrayList<>(applications.size());
+        for (Application app : applications) {
+            sorted.add(new Row(parseID(app.getApplicant().getApplicantID()), app));
+        }
+        Collections.sort(sorted, new Comparator<Row>() {
+            @Override
+            public int compare(Row row1, Row row2) {
+                return Long.compare(row1.id, row2.id);
+            }
+        });
+
+        int rows = sorted.size();
+        long[] ids = new long[rows];
+        String[] kinds = new String[rows];
+        String[] statuses = new String[rows];
+        String[] types = new String[rows];
+        String[] reasons = new String[rows];
+        int[] durations = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            Application app = sorted.get(i).application;
+            ids[i] = sorted.get(i).id;
+            kinds[i] = app.getScholarshipName();
+            statuses[i] = app.getStatus();
+            types[i] = app.getScholarshipType();
+            reasons[i] = app.getRejectionReason();
+            durations[i] = app.getDurationInYears();
+        }
+
+        byte[][] columns = new byte[COLUMN_COUNT][];
+        columns[COLUMN_ID] = encodeIDs(ids);
+        columns[COLUMN_KIND] = encodeDictionary(kinds);
+        columns[COLUMN_STATUS] = encodeDictionary(statuses);
+        columns[COLUMN_TYPE] = encodeDictionary(types);
+        columns[COLUMN_REASON] = encodeDictionary(reasons);
+        columns[COLUMN_DURATION] = encodePacked(durations);
+
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(filePath))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(rows);
+            out.writeByte(COLUMN_COUNT);
+
+            int offset = HEADER_SIZE;
+            for (int column = 0; column < COLUMN_COUNT; column++) {
+                out.writeByte(column);
+                out.writeInt(offset);
+                out.writeInt(columns[column].length);
+                offset += columns[column].length;
+            }
+            for (byte[] column : columns) {
+                out.write(column);
+            }
+        }
+    }
+
+    private static long parseID(String id) {
+        long value;
+        try {
+            value = Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Columnar output needs numeric applicant IDs, got: " + id);
+        }
+        if (value < 0) {
+            throw new IllegalArgumentException("Applicant IDs must be non-negative: " + id);
+        }
+        return value;
+    }
+
+    private static byte[] encodeIDs(long[] ids) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long previous = 0;
+        for (long value : ids) {
+            if (value < previous) {
+                throw new IllegalStateException("Applicant IDs are not sorted: " + value + " after " + previous);
+            }
+            writeVarLong(out, value - previous);
+            previous = value;
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] encodeDictionary(String[] values) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        int[] indexes = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            Integer index = dictionary.get(values[i]);
+            if (index == null) {
+                index = dictionary.size();
+                dictionary.put(values[i], index);
+            }
+            indexes[i] = index;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeVarLong(bytes, dictionary.size());
+            for (String value : dictionary.keySet()) {
+                // null entries (no type, no reason) are stored as a single 0 byte
+                out.writeBoolean(value != null);
+                if (value != null) {
+                    out.writeUTF(value);
+                }
+            }
+            out.write(encodePacked(indexes));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // Width byte followed by the values packed little-endian at that many bits each
+    static byte[] encodePacked(int[] values) {
+        int max = 0;
+        for (int value : values) {
+            if (value < 0) {
+                throw new IllegalArgumentException("Packed values must be non-negative: " + value);
+            }
+            max = Math.max(max, value);
+        }
+        int width = 32 - Integer.numberOfLeadingZeros(max);
+
+        byte[] packed = new byte[1 + (int) (((long) values.length * width + 7) / 8)];
+        packed[0] = (byte) width;
+        long bitPosition = 0;
+        for (int value : values) {
+            for (int bit = 0; bit < width; bit++, bitPosition++) {
+                if ((value & (1 << bit)) != 0) {
+                    packed[1 + (int) (bitPosition >>> 3)] |= (byte) (1 << (bitPosition & 7));
+                }
+            }
+        }
+        return packed;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static class Row {
+        private final long id;
+        private final Application application;
+
+        Row(long id, Application application) {
+            this.id = id;
+            this.application = application;
+        }
+    }
+}
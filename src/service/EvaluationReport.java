@@ -0,0 +1,237 @@
+package service;
+
+import model.Application;
+import model.Decision;
+import model.NeedBasedScholarship;
+import model.ResearchGrant;
+import java.util.Locale;
+
+// Mergeable summary of evaluation outcomes. Each thread fills its own report while it
+// evaluates, and the partial reports are merged at the end.
+public class EvaluationReport {
+
+    private static final String[] KIND_NAMES = { "Merit", "Need-Based", "Research" };
+    private static final int REASON_COUNT = Decision.RejectionReason.values().length;
+
+    private final long[] total = new long[KIND_NAMES.length];
+    private final long[] accepted = new long[KIND_NAMES.length];
+    private final long[] full = new long[KIND_NAMES.length];
+    private final long[] half = new long[KIND_NAMES.length];
+    private final long[][] rejections = new long[KIND_NAMES.length][REASON_COUNT];
+
+    private final Histogram gpa = new Histogram();
+    private final Histogram familyIncome = new Histogram();
+    private final Histogram averageImpact = new Histogram();
+
+    // Records one evaluated application
+    public void record(Application application) {
+        int kind = kindOf(application);
+        if (kind < 0) {
+            return;
+        }
+
+        Decision decision = application.getDecision();
+        total[kind]++;
+        if (decision.isAccepted()) {
+            accepted[kind]++;
+            if (decision.getType() == Decision.Type.FULL) full[kind]++;
+            else if (decision.getType() == Decision.Type.HALF) half[kind]++;
+        } else if (decision.isRejected()) {
+            rejections[kind][decision.getRejectionReason().ordinal()]++;
+        }
+
+        gpa.add(application.getApplicant().getGpa());
+
+        if (application instanceof NeedBasedScholarship
+                && decision.getRejectionReason() != Decision.RejectionReason.FAMILY_INFO_MISSING) {
+            familyIncome.add(((NeedBasedScholarship) application).getFamilyIncome());
+        }
+
+        if (application instanceof ResearchGrant && application.getPublicationCount() > 0) {
+            averageImpact.add(application.getAverageImpact());
+        }
+    }
+
+    // Adds the other report's counts into this one
+    public void merge(EvaluationReport other) {
+        for (int kind = 0; kind < KIND_NAMES.length; kind++) {
+            total[kind] += other.total[kind];
+            accepted[kind] += other.accepted[kind];
+            full[kind] += other.full[kind];
+            half[kind] += other.half[kind];
+            for (int reason = 0; reason < REASON_COUNT; reason++) {
+                rejections[kind][reason] += other.rejections[kind][reason];
+            }
+        }
+        gpa.merge(other.gpa);
+        familyIncome.merge(other.familyIncome);
+        averageImpact.merge(other.averageImpact);
+    }
+
+    private static int kindOf(Application application) {
+        switch (application.getApplicant().getScholarshipTypeCode()) {
+            case "11": return 0;
+            case "22": return 1;
+            case "33": return 2;
+            default: return -1;
+        }
+    }
+
+    // Getters
+    public long getTotal(String scholarshipName) { return total[indexOf(scholarshipName)]; }
+    public long getAccepted(String scholarshipName) { return accepted[indexOf(scholarshipName)]; }
+    public long getFull(String scholarshipName) { return full[indexOf(scholarshipName)]; }
+    public long getHalf(String scholarshipName) { return half[indexOf(scholarshipName)]; }
+
+    public long getRejections(String scholarshipName, Decision.RejectionReason reason) {
+        return rejections[indexOf(scholarshipName)][reason.ordinal()];
+    }
+
+    public double getAcceptanceRate(String scholarshipName) {
+        int kind = indexOf(scholarshipName);
+        return total[kind] == 0 ? 0.0 : (double) accepted[kind] / total[kind];
+    }
+
+    public double getGpaQuantile(double q) { return gpa.quantile(q); }
+    public double getFamilyIncomeQuantile(double q) { return familyIncome.quantile(q); }
+    public double getAverageImpact() { return averageImpact.mean(); }
+
+    private static int indexOf(String scholarshipName) {
+        for (int kind = 0; kind < KIND_NAMES.length; kind++) {
+            if (KIND_NAMES[kind].equals(scholarshipName)) {
+                return kind;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scholarship: " + scholarshipName);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Evaluation Summary\n");
+        for (int kind = 0; kind < KIND_NAMES.length; kind++) {
+            if (total[kind] == 0) {
+                continue;
+            }
+            sb.append(String.format(Locale.ROOT, "%s: %d applications, %d accepted (%.1f%%), Full: %d, Half: %d%n",
+                    KIND_NAMES[kind], total[kind], accepted[kind],
+                    100.0 * accepted[kind] / total[kind], full[kind], half[kind]));
+            for (Decision.RejectionReason reason : Decision.RejectionReason.values()) {
+                long count = rejections[kind][reason.ordinal()];
+                if (count > 0) {
+                    sb.append("  Rejected - ").append(reason).append(": ").append(count).append("\n");
+                }
+            }
+        }
+        sb.append(String.format(Locale.ROOT, "GPA: median %.2f, p10 %.2f, p90 %.2f%n",
+                gpa.quantile(0.5), gpa.quantile(0.1), gpa.quantile(0.9)));
+        if (familyIncome.count > 0) {
+            sb.append(String.format(Locale.ROOT, "Family income: median %.0f, p10 %.0f, p90 %.0f%n",
+                    familyIncome.quantile(0.5), familyIncome.quantile(0.1), familyIncome.quantile(0.9)));
+        }
+        if (averageImpact.count > 0) {
+            sb.append(String.format(Locale.ROOT, "Average publication impact: %.2f over %d applicants%n",
+                    averageImpact.mean(), averageImpact.count));
+        }
+        return sb.toString();
+    }
+
+    // Log-width bins: bin i holds values in (gamma^(i-1), gamma^i], so any quantile is within
+    // RELATIVE_ACCURACY of the true value at every magnitude. Count, sum, min and max are exact.
+    // Values at or below ZERO_LIMIT, including negative ones, share one bin reported as zero.
+    // Values above OVERFLOW_LIMIT, including infinity, share an overflow bin reported as the
+    // maximum, so the bin range stays bounded (under 2,800 bins). NaN is ignored.
+    private static class Histogram {
+        private static final double RELATIVE_ACCURACY = 0.01;
+        private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+        private static final double LOG_GAMMA = Math.log(GAMMA);
+        private static final double ZERO_LIMIT = 1e-9;
+        private static final double OVERFLOW_LIMIT = 1e15;
+
+        private long[] bins = new long[0];
+        private int firstIndex;
+        private long zeroCount;
+        private long overflowCount;
+        private long count;
+        private double sum;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        void add(double value) {
+            if (Double.isNaN(value)) {
+                return;
+            }
+            if (value <= ZERO_LIMIT) {
+                zeroCount++;
+            } else if (value > OVERFLOW_LIMIT) {
+                overflowCount++;
+            } else {
+                int index = (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+                ensureRange(index, index);
+                bins[index - firstIndex]++;
+            }
+            count++;
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        void merge(Histogram other) {
+            if (other.bins.length > 0) {
+                ensureRange(other.firstIndex, other.firstIndex + other.bins.length - 1);
+                for (int i = 0; i < other.bins.length; i++) {
+                    bins[other.firstIndex + i - firstIndex] += other.bins[i];
+                }
+            }
+            zeroCount += other.zeroCount;
+            overflowCount += other.overflowCount;
+            count += other.count;
+            sum += other.sum;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+
+        // Grows the bin array so that it covers indexes low..high
+        private void ensureRange(int low, int high) {
+            if (bins.length == 0) {
+                bins = new long[high - low + 1];
+                firstIndex = low;
+                return;
+            }
+            int lastIndex = firstIndex + bins.length - 1;
+            if (low >= firstIndex && high <= lastIndex) {
+                return;
+            }
+            int newFirst = Math.min(firstIndex, low);
+            int newLast = Math.max(lastIndex, high);
+            long[] grown = new long[newLast - newFirst + 1];
+            System.arraycopy(bins, 0, grown, firstIndex - newFirst, bins.length);
+            bins = grown;
+            firstIndex = newFirst;
+        }
+
+        double mean() {
+            return count == 0 ? 0.0 : sum / count;
+        }
+
+        double quantile(double q) {
+            if (count == 0) {
+                return 0.0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(q * count));
+            long seen = zeroCount;
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, 0.0));
+            }
+            for (int i = 0; i < bins.length; i++) {
+                seen += bins[i];
+                if (seen >= rank && bins[i] > 0) {
+                    // Point with the same relative distance to both bin edges
+                    double estimate = 2 * Math.pow(GAMMA, firstIndex + i) / (GAMMA + 1);
+                    return Math.max(min, Math.min(max, estimate));
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package service;
+
+import util.CompressedInput;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// Splits the input by applicant ID hash across worker JVMs on this machine and merges their
+// sorted results into the same order sortByApplicantID gives. Every record of an applicant
+// goes to the same worker, so each worker can join and evaluate its partition on its own.
+public class PartitionCoordinator {
+
+    private final int workerCount;
+    private final List<String> jvmOptions;
+
+    public PartitionCoordinator(int workerCount, List<String> jvmOptions) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("Worker count must be at least 1");
+        }
+        this.workerCount = workerCount;
+        this.jvmOptions = new ArrayList<>(jvmOptions);
+    }
+
+    // Writes the result lines in applicant ID order, as Application.toString() renders them, each
+    // followed by a newline; returns the number of lines written
+    public int evaluate(String filePath, Writer out) throws IOException {
+        List<Process> workers = new ArrayList<>(workerCount);
+        try {
+            for (int i = 0; i < workerCount; i++) {
+                workers.add(startWorker());
+            }
+            sendPartitions(filePath, workers);
+            int count = mergeResults(workers, out);
+
+            for (Process worker : workers) {
+                int exitCode = worker.waitFor();
+                if (exitCode != 0) {
+                    throw new IOException("Partition worker exited with code " + exitCode);
+                }
+            }
+            return count;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for partition workers", e);
+        } finally {
+            for (Process worker : workers) {
+                worker.destroy();
+            }
+        }
+    }
+
+    private Process startWorker() throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(PartitionWorker.class.getName());
+        return new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+    }
+
+    private void sendPartitions(String filePath, List<Process> workers) throws IOException {
+        List<DataOutputStream> outputs = new ArrayList<>(workerCount);
+        for (Process worker : workers) {
+            outputs.add(new DataOutputStream(new BufferedOutputStream(worker.getOutputStream(), 1 << 16)));
+        }
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(CompressedInput.open(filePath), StandardCharsets.UTF_8), 1 << 16)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                PartitionFrames.write(outputs.get(partitionOf(applicantIDOf(line))), line);
+            }
+        }
+
+        for (DataOutputStream out : outputs) {
+            PartitionFrames.writeEnd(out);
+            out.close();
+        }
+    }
+
+    // k-way merge of the workers' sorted outputs, streamed to out as it goes
+    private int mergeResults(List<Process> workers, Writer out) throws IOException {
+        PriorityQueue<WorkerHead> heads = new PriorityQueue<>((h1, h2) ->
+                EvaluationService.compareApplicantIDs(h1.applicantID, h2.applicantID));
+        for (Process worker : workers) {
+            WorkerHead head = new WorkerHead(new DataInputStream(new BufferedInputStream(worker.getInputStream(), 1 << 16)));
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+
+        int count = 0;
+        while (!heads.isEmpty()) {
+            WorkerHead head = heads.poll();
+            out.write(head.line);
+            out.write('\n');
+            count++;
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+        return count;
+    }
+
+    // Second field of the line, cleaned the way CSVParser cleans it, without splitting the whole line
+    private static String applicantIDOf(String line) {
+        int start = line.indexOf(',');
+        if (start < 0) {
+            return "";
+        }
+        int end = line.indexOf(',', start + 1);
+        String id = (end < 0 ? line.substring(start + 1) : line.substring(start + 1, end)).trim();
+        if (id.length() >= 2 && id.startsWith("\"") && id.endsWith("\"")) {
+            id = id.substring(1, id.length() - 1);
+        }
+        return id;
+    }
+
+    private int partitionOf(String applicantID) {
+        int h = applicantID.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        return Math.floorMod(h, workerCount);
+    }
+
+    private static class WorkerHead {
+        private final DataInputStream in;
+        private String applicantID;
+        private String line;
+
+        WorkerHead(DataInputStream in) {
+            this.in = in;
+        }
+
+        boolean advance() throws IOException {
+            applicantID = PartitionFrames.read(in);
+            if (applicantID == null) {
+                return false;
+            }
+            line = PartitionFrames.read(in);
+            if (line == null) {
+                throw new IOException("Partition stream ended in the middle of a result");
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package service;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// Framing shared by the coordinator and its workers: each frame is a 4-byte length followed by
+// that many UTF-8 bytes, and a length of -1 ends the stream.
+final class PartitionFrames {
+
+    private static final int END_OF_STREAM = -1;
+
+    private PartitionFrames() { }
+
+    static void write(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static void writeEnd(DataOutputStream out) throws IOException {
+        out.writeInt(END_OF_STREAM);
+        out.flush();
+    }
+
+    // Next frame, or null at the end marker
+    static String read(DataInputStream in) throws IOException {
+        int length;
+        try {
+            length = in.readInt();
+        } catch (EOFException e) {
+            throw new IOException("Partition stream ended without an end marker");
+        }
+        if (length == END_OF_STREAM) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,42 @@
+package service;
+
+import model.Application;
+import util.CSVParser;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+// Worker process started by PartitionCoordinator. Reads its partition of CSV lines from stdin,
+// evaluates it, and writes (applicant ID, result line) frame pairs to stdout in sorted order.
+public class PartitionWorker {
+
+    public static void main(String[] args) {
+        try {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(System.in, 1 << 16));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(System.out, 1 << 16));
+
+            ApplicationJoin join = new ApplicationJoin();
+            String line;
+            while ((line = PartitionFrames.read(in)) != null) {
+                join.accept(CSVParser.parseLine(line));
+            }
+
+            List<Application> applications = join.toApplications();
+            EvaluationService evaluator = new EvaluationService();
+            evaluator.evaluateAll(applications);
+            evaluator.sortByApplicantID(applications);
+
+            for (Application application : applications) {
+                PartitionFrames.write(out, application.getApplicant().getApplicantID());
+                PartitionFrames.write(out, application.toString());
+            }
+            PartitionFrames.writeEnd(out);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Partition worker failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
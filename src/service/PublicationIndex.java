@@ -0,0 +1,200 @@
+package service;
+
+import model.Publication;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+// Publications in arrival order with duplicates removed. A duplicate is the same applicant ID and
+// title after trimming, lower-casing and collapsing whitespace. Lookups go through an
+// open-addressing table keyed by a 64-bit mixed hash of that normalized pair.
+public class PublicationIndex {
+
+    public enum DuplicatePolicy {
+        // Keep the first row seen
+        KEEP_FIRST,
+        // Keep the row with the highest impact factor
+        KEEP_MAX,
+        // Keep the first row and record rows whose impact factor disagrees with it
+        FLAG
+    }
+
+    private static final int MIN_TABLE_SIZE = 16;
+
+    private final DuplicatePolicy policy;
+
+    // Entries in arrival order
+    private Publication[] entries;
+    private String[] keys;
+    private long[] hashes;
+    private int size;
+
+    // Open-addressing table of entry index + 1, 0 marks an empty slot
+    private int[] table;
+
+    private final List<Publication> conflicts = new ArrayList<>();
+    private int duplicateCount;
+
+    public PublicationIndex(DuplicatePolicy policy, int expectedSize) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Duplicate policy cannot be null");
+        }
+        this.policy = policy;
+        int capacity = Math.max(MIN_TABLE_SIZE, expectedSize);
+        this.entries = new Publication[capacity];
+        this.keys = new String[capacity];
+        this.hashes = new long[capacity];
+        this.table = new int[tableSizeFor(capacity)];
+    }
+
+    // Returns true if the publication was new, false if it was a duplicate
+    public boolean add(Publication publication) {
+        String key = keyOf(publication);
+        long hash = hashOf(key);
+
+        int mask = table.length - 1;
+        int slot = (int) hash & mask;
+        while (table[slot] != 0) {
+            int index = table[slot] - 1;
+            if (hashes[index] == hash && keys[index].equals(key)) {
+                onDuplicate(index, publication);
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == entries.length) {
+            int capacity = entries.length + (entries.length >> 1);
+            entries = Arrays.copyOf(entries, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+        }
+        entries[size] = publication;
+        keys[size] = key;
+        hashes[size] = hash;
+        size++;
+        table[slot] = size;
+
+        if (table.length < tableSizeFor(size)) {
+            rehash(tableSizeFor(size));
+        }
+        return true;
+    }
+
+    public boolean contains(String applicantID, String title) {
+        String key = keyOf(applicantID, title);
+        long hash = hashOf(key);
+        int mask = table.length - 1;
+        for (int slot = (int) hash & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            if (hashes[index] == hash && keys[index].equals(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void onDuplicate(int index, Publication duplicate) {
+        duplicateCount++;
+        Publication kept = entries[index];
+        switch (policy) {
+            case KEEP_MAX:
+                if (duplicate.getImpactFactor() > kept.getImpactFactor()) {
+                    entries[index] = duplicate;
+                }
+                break;
+            case FLAG:
+                if (Double.compare(duplicate.getImpactFactor(), kept.getImpactFactor()) != 0) {
+                    conflicts.add(duplicate);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void rehash(int newSize) {
+        table = new int[newSize];
+        int mask = newSize - 1;
+        for (int index = 0; index < size; index++) {
+            int slot = (int) hashes[index] & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = index + 1;
+        }
+    }
+
+    // Power of two at least twice the entry count
+    private static int tableSizeFor(int entries) {
+        return Integer.highestOneBit(Math.max(MIN_TABLE_SIZE, entries) - 1) << 2;
+    }
+
+    private static String keyOf(Publication publication) {
+        return keyOf(publication.getApplicantID(), publication.getTitle());
+    }
+
+    // Trimmed ID, then the title trimmed, with each whitespace run collapsed to one space and
+    // lower-cased; built in one pass without a regex
+    private static String keyOf(String applicantID, String title) {
+        String id = applicantID == null ? "" : applicantID.trim();
+        String trimmed = title == null ? "" : title.trim();
+        StringBuilder key = new StringBuilder(id.length() + 1 + trimmed.length());
+        key.append(id).append('\u0000');
+
+        boolean ascii = true;
+        boolean inWhitespace = false;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (isWhitespace(c)) {
+                if (!inWhitespace) {
+                    key.append(' ');
+                }
+                inWhitespace = true;
+                continue;
+            }
+            inWhitespace = false;
+            if (c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+            } else if (c >= 0x80) {
+                ascii = false;
+            }
+            key.append(c);
+        }
+
+        if (!ascii) {
+            // Non-ASCII case mapping can change the length, so String does it
+            return id + '\u0000' + key.substring(id.length() + 1).toLowerCase(Locale.ROOT);
+        }
+        return key.toString();
+    }
+
+    // The characters matched by \s
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    // FNV-1a over the characters, finished with the MurmurHash3 64-bit mixer
+    private static long hashOf(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // Getters
+    public int size() { return size; }
+    public Publication get(int index) { return entries[index]; }
+    public DuplicatePolicy getPolicy() { return policy; }
+    public int getDuplicateCount() { return duplicateCount; }
+    public List<Publication> getConflicts() { return Collections.unmodifiableList(conflicts); }
+}
@@ -0,0 +1,44 @@
+package service;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Collects rejected rows as "lineNumber,REASON,original line" in a quarantine file
+public class QuarantineSink implements AutoCloseable {
+
+    private final Writer out;
+    private final Map<RowError, Integer> counts = new EnumMap<>(RowError.class);
+    private int total;
+
+    public QuarantineSink(String filePath) throws IOException {
+        this.out = new BufferedWriter(new FileWriter(filePath));
+    }
+
+    public void reject(long lineNumber, RowError reason, String line) throws IOException {
+        out.write(Long.toString(lineNumber));
+        out.write(',');
+        out.write(reason.name());
+        out.write(',');
+        out.write(line);
+        out.write('\n');
+        counts.merge(reason, 1, Integer::sum);
+        total++;
+    }
+
+    public int getRejectedCount() {
+        return total;
+    }
+
+    public int getRejectedCount(RowError reason) {
+        return counts.getOrDefault(reason, 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,89 @@
+package service;
+
+import model.*;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Evaluates several threshold scenarios over one shared, immutable copy of the inputs
+public class ReplayEngine {
+
+    private final List<ApplicantInput> inputs;
+
+    public ReplayEngine(List<Application> applications) {
+        if (applications == null) {
+            throw new IllegalArgumentException("Applications cannot be null");
+        }
+        List<Application> sorted = new ArrayList<>(applications);
+        new EvaluationService().sortByApplicantID(sorted);
+
+        List<ApplicantInput> snapshot = new ArrayList<>(sorted.size());
+        for (Application application : sorted) {
+            snapshot.add(ApplicantInput.from(application));
+        }
+        this.inputs = Collections.unmodifiableList(snapshot);
+    }
+
+    // Parses the archive once; the parsed applications are not kept
+    public static ReplayEngine load(String filePath) throws IOException {
+        return new ReplayEngine(new FileReaderService().readAndParseApplications(filePath));
+    }
+
+    public List<ApplicantInput> getInputs() {
+        return inputs;
+    }
+
+    public ReplayResult replay(EvaluationPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Policy cannot be null");
+        }
+        byte[] outcomes = new byte[inputs.size()];
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] = evaluate(inputs.get(i), policy).toCode();
+        }
+        return new ReplayResult(policy, inputs, outcomes);
+    }
+
+    // Runs every scenario on its own thread; results come back in the order of the policies
+    public List<ReplayResult> replayAll(List<EvaluationPolicy> policies) {
+        if (policies == null || policies.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int threads = Math.min(policies.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<ReplayResult>> futures = new ArrayList<>(policies.size());
+            for (EvaluationPolicy policy : policies) {
+                futures.add(executor.submit(() -> replay(policy)));
+            }
+
+            List<ReplayResult> results = new ArrayList<>(policies.size());
+            for (Future<ReplayResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Replay interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Replay failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Decision evaluate(ApplicantInput input, EvaluationPolicy policy) {
+        switch (input.getScholarshipTypeCode()) {
+            case "11": return MeritBasedScholarship.evaluate(input, policy);
+            case "22": return NeedBasedScholarship.evaluate(input, policy);
+            case "33": return ResearchGrant.evaluate(input, policy);
+            default: throw new IllegalArgumentException("Unknown scholarship type: " + input.getScholarshipTypeCode());
+        }
+    }
+}
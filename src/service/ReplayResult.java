@@ -0,0 +1,41 @@
+package service;
+
+import model.ApplicantInput;
+import model.EvaluationPolicy;
+import model.Decision;
+import java.util.List;
+
+// Decisions of one scenario, one byte per applicant, aligned with the shared inputs
+public final class ReplayResult {
+
+    private final EvaluationPolicy policy;
+    private final List<ApplicantInput> inputs;
+    private final byte[] outcomes;
+
+    ReplayResult(EvaluationPolicy policy, List<ApplicantInput> inputs, byte[] outcomes) {
+        this.policy = policy;
+        this.inputs = inputs;
+        this.outcomes = outcomes;
+    }
+
+    public EvaluationPolicy getPolicy() { return policy; }
+    public int size() { return outcomes.length; }
+    public ApplicantInput getInput(int index) { return inputs.get(index); }
+    public Decision getDecision(int index) { return Decision.fromCode(outcomes[index]); }
+
+    public int countAccepted() {
+        int accepted = 0;
+        for (byte outcome : outcomes) {
+            if (Decision.fromCode(outcome).isAccepted()) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    @Override
+    public String toString() {
+        return "ReplayResult{policy='" + policy.getName() + "', applicants=" + outcomes.length
+                + ", accepted=" + countAccepted() + "}";
+    }
+}
@@ -0,0 +1,13 @@
+package service;
+
+// Reason a CSV row was rejected during validated loading
+public enum RowError {
+    MISSING_FIELDS,
+    UNKNOWN_RECORD_TYPE,
+    INVALID_APPLICANT_ID,
+    UNKNOWN_SCHOLARSHIP_TYPE,
+    INVALID_NUMBER,
+    NEGATIVE_VALUE,
+    INVALID_DOCUMENT_TYPE,
+    INVALID_TRANSCRIPT_STATUS
+}
@@ -0,0 +1,398 @@
+package service;
+
+import model.Application;
+import util.CSVParser;
+import util.CompressedInput;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+// Follows an append-only applications file. Every record read is appended to a binary state log
+// next to the checkpoint, and the checkpoint itself only holds the byte offset of the last complete
+// line plus the length and CRC32 digest of the log. A poll therefore costs only what it read, and a
+// restart replays the log instead of parsing the CSV again. Once the log holds mostly overwritten
+// records it is compacted into a new generation.
+// Rows are validated with ApplicationJoin.check; bad rows go to the quarantine sink, if there is one,
+// and are skipped so a malformed line never stalls the feed.
+public class TailingReader {
+
+    private static final String CHECKPOINT_HEADER = "SCHOLARSHIP-CHECKPOINT 3";
+
+    // The checkpoint fingerprints this many bytes at the start of the file and before the offset,
+    // so a feed that was replaced by a different file of any size is read again from the start
+    private static final int FINGERPRINT_BYTES = 4096;
+
+    // Save progress at least this often during a long read
+    private static final long CHECKPOINT_INTERVAL_BYTES = 64L * 1024 * 1024;
+
+    // Compact when the log holds more than twice the live records plus this many
+    private static final long COMPACTION_SLACK = 1024;
+
+    private final Path filePath;
+    private final Path checkpointPath;
+    private final QuarantineSink quarantine;
+    private ApplicationJoin join;
+    private long offset;
+    private long lineNumber;
+    private long fingerprint;
+    private int rejectedCount;
+
+    // State log: <checkpoint>.log.<generation>, valid up to logLength bytes
+    private int generation;
+    private long logLength;
+    private long logRecords;
+    private CRC32 logDigest;
+
+    private boolean loaded;
+
+    public TailingReader(String filePath, String checkpointPath) throws IOException {
+        this(filePath, checkpointPath, null);
+    }
+
+    // Bad rows are written to quarantine with their line number; a null sink only counts them
+    public TailingReader(String filePath, String checkpointPath, QuarantineSink quarantine) throws IOException {
+        this.filePath = Paths.get(filePath);
+        this.checkpointPath = Paths.get(checkpointPath);
+        this.quarantine = quarantine;
+        this.join = new ApplicationJoin();
+        this.offset = 0;
+        this.lineNumber = 0;
+        this.fingerprint = 0;
+        this.rejectedCount = 0;
+        this.generation = 0;
+        this.logLength = 0;
+        this.logRecords = 0;
+        this.logDigest = new CRC32();
+        loadCheckpoint();
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    // Rows rejected by validation since this reader was created
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public ArrayList<Application> getApplications() {
+        return join.toApplications();
+    }
+
+    // Reads the complete lines appended since the last call; returns how many lines were read.
+    // A trailing partial line stays unread until its newline arrives.
+    public int poll() throws IOException {
+        return read(false);
+    }
+
+    // One-shot read of everything in the file, including a final line without a newline.
+    // That line is not saved in the checkpoint, so the reader cannot be polled afterwards.
+    public ArrayList<Application> load() throws IOException {
+        read(true);
+        loaded = true;
+        return getApplications();
+    }
+
+    // Polls until interrupted, waking on file changes or every pollMillis at the latest
+    public void follow(long pollMillis, Consumer<ArrayList<Application>> onUpdate)
+            throws IOException, InterruptedException {
+        Path directory = filePath.toAbsolutePath().getParent();
+        try (WatchService watcher = FileSystems.getDefault().newWatchService()) {
+            directory.register(watcher, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+            while (!Thread.currentThread().isInterrupted()) {
+                if (poll() > 0) {
+                    onUpdate.accept(getApplications());
+                }
+                WatchKey key = watcher.poll(pollMillis, TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    key.pollEvents();
+                    key.reset();
+                }
+            }
+        }
+        throw new InterruptedException("Tailing stopped");
+    }
+
+    private int read(boolean includePartialLine) throws IOException {
+        if (loaded) {
+            throw new IllegalStateException("Reader was already used for a one-shot load");
+        }
+        // Offsets into compressed bytes cannot be resumed or appended to
+        if (CompressedInput.isCompressed(filePath.toString())) {
+            throw new IOException("Cannot tail or checkpoint a compressed file: " + filePath);
+        }
+
+        long length = Files.size(filePath);
+        if (length < offset || fingerprintOf(offset) != fingerprint) {
+            // File was truncated or replaced, start over
+            startOver();
+        }
+        if (length == offset) {
+            return 0;
+        }
+
+        int lines = 0;
+        long lastCheckpoint = offset;
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+             FileChannel logChannel = openLog(generation)) {
+            channel.position(offset);
+            InputStream in = new BufferedInputStream(Channels.newInputStream(channel), 1 << 16);
+            DataOutputStream log = logWriter(logChannel, logDigest);
+            long position = offset;
+            int b;
+            while ((b = in.read()) != -1) {
+                position++;
+                if (b != '\n') {
+                    line.write(b);
+                    continue;
+                }
+                if (acceptLine(decode(line), log)) {
+                    logRecords++;
+                }
+                line.reset();
+                lines++;
+                offset = position;
+
+                if (offset - lastCheckpoint >= CHECKPOINT_INTERVAL_BYTES) {
+                    log.flush();
+                    logLength = logChannel.position();
+                    saveCheckpoint();
+                    lastCheckpoint = offset;
+                }
+            }
+            log.flush();
+            logLength = logChannel.position();
+        }
+
+        if (offset != lastCheckpoint) {
+            if (logRecords > 2L * join.recordCount() + COMPACTION_SLACK) {
+                compact();
+            } else {
+                saveCheckpoint();
+            }
+        }
+
+        if (includePartialLine && line.size() > 0) {
+            acceptLine(decode(line), null);
+            lines++;
+        }
+        return lines;
+    }
+
+    // Validates one line and adds it to the join; returns true when a record was logged
+    private boolean acceptLine(String text, DataOutputStream log) throws IOException {
+        lineNumber++;
+        String[] data = CSVParser.parseLine(text);
+        RowError error = ApplicationJoin.check(data);
+        if (error != null) {
+            rejectedCount++;
+            if (quarantine != null) {
+                quarantine.reject(lineNumber, error, text);
+            }
+            return false;
+        }
+        return join.accept(data, log);
+    }
+
+    // CRC32 of the first FINGERPRINT_BYTES of the file and the FINGERPRINT_BYTES before end
+    private long fingerprintOf(long end) throws IOException {
+        CRC32 crc = new CRC32();
+        if (end == 0) {
+            return crc.getValue();
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            updateFingerprint(crc, channel, 0, Math.min(end, FINGERPRINT_BYTES));
+            long tailStart = Math.max(0, end - FINGERPRINT_BYTES);
+            updateFingerprint(crc, channel, tailStart, end - tailStart);
+        }
+        return crc.getValue();
+    }
+
+    private static void updateFingerprint(CRC32 crc, FileChannel channel, long position, long count)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) count);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                // Shorter than the checkpoint expected; the digest can no longer match
+                crc.update(-1);
+                break;
+            }
+        }
+        buffer.flip();
+        crc.update(buffer);
+    }
+
+    private static String decode(ByteArrayOutputStream line) {
+        byte[] bytes = line.toByteArray();
+        int length = bytes.length;
+        if (length > 0 && bytes[length - 1] == '\r') {
+            length--;
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private void startOver() throws IOException {
+        Files.deleteIfExists(logPath(generation));
+        join = new ApplicationJoin();
+        offset = 0;
+        lineNumber = 0;
+        fingerprint = 0;
+        generation++;
+        logLength = 0;
+        logRecords = 0;
+        logDigest = new CRC32();
+    }
+
+    // Rewrites the live state into the next log generation and drops the old one
+    private void compact() throws IOException {
+        int next = generation + 1;
+        CRC32 digest = new CRC32();
+        long records;
+        long length;
+        try (FileChannel logChannel = openLog(next)) {
+            DataOutputStream log = logWriter(logChannel, digest);
+            records = join.writeState(log);
+            log.flush();
+            length = logChannel.position();
+        }
+
+        Path previous = logPath(generation);
+        generation = next;
+        logLength = length;
+        logRecords = records;
+        logDigest = digest;
+        saveCheckpoint();
+        Files.deleteIfExists(previous);
+    }
+
+    private Path logPath(int logGeneration) {
+        return checkpointPath.resolveSibling(checkpointPath.getFileName() + ".log." + logGeneration);
+    }
+
+    // Opens the log for appending after its last checkpointed byte; anything past that is dropped
+    private FileChannel openLog(int logGeneration) throws IOException {
+        FileChannel channel = FileChannel.open(logPath(logGeneration), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        long start = logGeneration == generation ? logLength : 0;
+        channel.truncate(start);
+        channel.position(start);
+        return channel;
+    }
+
+    private static DataOutputStream logWriter(FileChannel channel, CRC32 digest) {
+        return new DataOutputStream(new BufferedOutputStream(
+                new CheckedOutputStream(Channels.newOutputStream(channel), digest), 1 << 16));
+    }
+
+    private void saveCheckpoint() throws IOException {
+        fingerprint = fingerprintOf(offset);
+        Path temp = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(temp), StandardCharsets.UTF_8))) {
+            out.write(CHECKPOINT_HEADER + "\n");
+            out.write("offset=" + offset + "\n");
+            out.write("lines=" + lineNumber + "\n");
+            out.write("fingerprint=" + Long.toHexString(fingerprint) + "\n");
+            out.write("log=" + generation + "\n");
+            out.write("length=" + logLength + "\n");
+            out.write("records=" + logRecords + "\n");
+            out.write("digest=" + Long.toHexString(logDigest.getValue()) + "\n");
+        }
+        Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // A missing, corrupt or stale checkpoint falls back to reading the file from the start
+    private void loadCheckpoint() throws IOException {
+        if (!Files.exists(checkpointPath)) {
+            return;
+        }
+
+        long savedOffset;
+        long savedLines;
+        long savedFingerprint;
+        int savedGeneration;
+        long savedLength;
+        long savedRecords;
+        long savedDigest;
+        try (BufferedReader reader = Files.newBufferedReader(checkpointPath, StandardCharsets.UTF_8)) {
+            if (!CHECKPOINT_HEADER.equals(reader.readLine())) {
+                return;
+            }
+            savedOffset = Long.parseLong(valueOf(reader.readLine(), "offset="));
+            savedLines = Long.parseLong(valueOf(reader.readLine(), "lines="));
+            savedFingerprint = Long.parseUnsignedLong(valueOf(reader.readLine(), "fingerprint="), 16);
+            savedGeneration = Integer.parseInt(valueOf(reader.readLine(), "log="));
+            savedLength = Long.parseLong(valueOf(reader.readLine(), "length="));
+            savedRecords = Long.parseLong(valueOf(reader.readLine(), "records="));
+            savedDigest = Long.parseUnsignedLong(valueOf(reader.readLine(), "digest="), 16);
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+
+        Path log = logPath(savedGeneration);
+        if (savedOffset > Files.size(filePath) || fingerprintOf(savedOffset) != savedFingerprint
+                || !Files.exists(log) || Files.size(log) < savedLength) {
+            Files.deleteIfExists(log);
+            return;
+        }
+
+        // The digest covers exactly the bytes consumed, so it is computed above the buffer
+        ApplicationJoin restored = new ApplicationJoin();
+        CRC32 digest = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(log), 1 << 16), digest))) {
+            for (long i = 0; i < savedRecords; i++) {
+                restored.readRecord(in);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            Files.deleteIfExists(log);
+            return;
+        }
+        if (digest.getValue() != savedDigest) {
+            Files.deleteIfExists(log);
+            return;
+        }
+
+        this.join = restored;
+        this.offset = savedOffset;
+        this.lineNumber = savedLines;
+        this.fingerprint = savedFingerprint;
+        this.generation = savedGeneration;
+        this.logLength = savedLength;
+        this.logRecords = savedRecords;
+        this.logDigest = digest;
+    }
+
+    private static String valueOf(String line, String key) {
+        if (line == null || !line.startsWith(key)) {
+            throw new IllegalArgumentException("Missing checkpoint field: " + key);
+        }
+        return line.substring(key.length());
+    }
+}
@@ -25,18 +25,80 @@ public class CSVParser {
     }
 
     public static double parseDouble(String value, double defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        String trimmed = value.trim();
+        if (isDecimal(trimmed)) {
+            return Double.parseDouble(trimmed);
+        }
+        if (trimmed.isEmpty()) {
+            return defaultValue;
+        }
+        // Rare forms such as "1e3f" or "NaN" are still left to Double.parseDouble
         try {
-            return Double.parseDouble(value.trim());
+            return Double.parseDouble(trimmed);
         } catch (Exception e) {
             return defaultValue;
         }
     }
 
     public static int parseInt(String value, int defaultValue) {
-        try {
-            return Integer.parseInt(value.trim());
-        } catch (Exception e) {
+        if (value == null) {
             return defaultValue;
         }
+        String trimmed = value.trim();
+        return isInteger(trimmed) ? Integer.parseInt(trimmed) : defaultValue;
+    }
+
+    // Plain decimal such as "3.20", "-1", ".5" or "1.5e3"; never throws
+    public static boolean isDecimal(String value) {
+        if (value == null) return false;
+        int length = value.length();
+        int i = 0;
+        if (i < length && (value.charAt(i) == '+' || value.charAt(i) == '-')) i++;
+
+        int digits = 0;
+        while (i < length && isDigit(value.charAt(i))) { i++; digits++; }
+        if (i < length && value.charAt(i) == '.') {
+            i++;
+            while (i < length && isDigit(value.charAt(i))) { i++; digits++; }
+        }
+        if (digits == 0) return false;
+
+        if (i < length && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (value.charAt(i) == '+' || value.charAt(i) == '-')) i++;
+            int exponentDigits = 0;
+            while (i < length && isDigit(value.charAt(i))) { i++; exponentDigits++; }
+            if (exponentDigits == 0) return false;
+        }
+        return i == length;
+    }
+
+    // Plain decimal that also fits in a double, so "1e400" is rejected; never throws
+    public static boolean isFiniteDecimal(String value) {
+        return isDecimal(value) && Double.isFinite(Double.parseDouble(value));
+    }
+
+    // Optional sign and digits that fit in an int; never throws
+    public static boolean isInteger(String value) {
+        if (value == null) return false;
+        int length = value.length();
+        int start = 0;
+        if (start < length && (value.charAt(start) == '+' || value.charAt(start) == '-')) start++;
+        if (start == length || length - start > 10) return false;
+
+        long magnitude = 0;
+        for (int i = start; i < length; i++) {
+            if (!isDigit(value.charAt(i))) return false;
+            magnitude = magnitude * 10 + (value.charAt(i) - '0');
+        }
+        long limit = value.charAt(0) == '-' ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        return magnitude <= limit;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 }
\ No newline at end of file
@@ -0,0 +1,253 @@
+package util;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+
+// Opens plain or compressed input files, choosing by the leading magic bytes.
+//   gzip with BGZF block headers: blocks are inflated in parallel and handed out in order
+//   other gzip (single or multi-member): inflated on a background thread while the caller parses
+//   zstd: detected, but no decoder ships with the JDK
+public class CompressedInput {
+
+    private static final int GZIP_MAGIC_1 = 0x1f;
+    private static final int GZIP_MAGIC_2 = 0x8b;
+    private static final byte[] ZSTD_MAGIC = { 0x28, (byte) 0xb5, 0x2f, (byte) 0xfd };
+
+    private static final int BGZF_HEADER_SIZE = 18;
+    private static final int GZIP_TRAILER_SIZE = 8;
+    private static final int FEXTRA = 0x04;
+
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private CompressedInput() { }
+
+    public static InputStream open(String filePath) throws IOException {
+        byte[] magic = readMagic(filePath);
+        if (isGzip(magic)) {
+            if (isBgzf(magic)) {
+                return new BlockQueueInputStream(new FileInputStream(filePath), true);
+            }
+            return new BlockQueueInputStream(new FileInputStream(filePath), false);
+        }
+        if (isZstd(magic)) {
+            throw new IOException("zstd input is not supported without a zstd decoder: " + filePath);
+        }
+        return new FileInputStream(filePath);
+    }
+
+    public static boolean isCompressed(String filePath) throws IOException {
+        byte[] magic = readMagic(filePath);
+        return isGzip(magic) || isZstd(magic);
+    }
+
+    // Enough of the first gzip header to recognise a BGZF "BC" extra subfield
+    private static byte[] readMagic(String filePath) throws IOException {
+        byte[] magic = new byte[16];
+        try (InputStream in = new FileInputStream(filePath)) {
+            int read = 0;
+            while (read < magic.length) {
+                int n = in.read(magic, read, magic.length - read);
+                if (n < 0) break;
+                read += n;
+            }
+        }
+        return magic;
+    }
+
+    private static boolean isGzip(byte[] magic) {
+        return (magic[0] & 0xff) == GZIP_MAGIC_1 && (magic[1] & 0xff) == GZIP_MAGIC_2;
+    }
+
+    private static boolean isBgzf(byte[] magic) {
+        return (magic[3] & FEXTRA) != 0 && magic[12] == 'B' && magic[13] == 'C' && magic[14] == 2 && magic[15] == 0;
+    }
+
+    private static boolean isZstd(byte[] magic) {
+        for (int i = 0; i < ZSTD_MAGIC.length; i++) {
+            if (magic[i] != ZSTD_MAGIC[i]) return false;
+        }
+        return true;
+    }
+
+    // Decompressed bytes handed from a producer thread to the reader as an ordered queue of chunks.
+    // An empty chunk marks the end of the data.
+    private static class BlockQueueInputStream extends InputStream {
+
+        private static final byte[] END = new byte[0];
+
+        private final BlockingQueue<Future<byte[]>> chunks;
+        private final ExecutorService inflaters;
+        private final Thread producer;
+        private byte[] current = new byte[0];
+        private int position;
+        private boolean finished;
+
+        BlockQueueInputStream(InputStream raw, boolean blocks) {
+            int threads = blocks ? Runtime.getRuntime().availableProcessors() : 1;
+            this.chunks = new ArrayBlockingQueue<>(threads * 4);
+            this.inflaters = blocks ? Executors.newFixedThreadPool(threads, CompressedInput::daemon) : null;
+            this.producer = daemon(() -> {
+                try (InputStream in = raw) {
+                    if (blocks) {
+                        readBlocks(new DataInputStream(new BufferedInputStream(in, CHUNK_SIZE)));
+                    } else {
+                        readStream(new GZIPInputStream(in, CHUNK_SIZE));
+                    }
+                    chunks.put(CompletableFuture.completedFuture(END));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (IOException | RuntimeException e) {
+                    CompletableFuture<byte[]> failure = new CompletableFuture<>();
+                    failure.completeExceptionally(e);
+                    try {
+                        chunks.put(failure);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            producer.start();
+        }
+
+        // Plain gzip: one inflating thread, running ahead of the parser
+        private void readStream(InputStream gzip) throws IOException, InterruptedException {
+            byte[] buffer = new byte[CHUNK_SIZE];
+            int n;
+            while ((n = gzip.read(buffer)) > 0) {
+                byte[] chunk = new byte[n];
+                System.arraycopy(buffer, 0, chunk, 0, n);
+                chunks.put(CompletableFuture.completedFuture(chunk));
+            }
+        }
+
+        // BGZF: the header gives each block's size, so blocks are cut out and inflated independently
+        private void readBlocks(DataInputStream in) throws IOException, InterruptedException {
+            byte[] header = new byte[BGZF_HEADER_SIZE];
+            while (true) {
+                try {
+                    in.readFully(header, 0, 1);
+                } catch (EOFException e) {
+                    return;
+                }
+                in.readFully(header, 1, BGZF_HEADER_SIZE - 1);
+                if ((header[0] & 0xff) != GZIP_MAGIC_1 || (header[1] & 0xff) != GZIP_MAGIC_2
+                        || header[12] != 'B' || header[13] != 'C') {
+                    throw new IOException("Malformed BGZF block header");
+                }
+                int blockSize = ((header[16] & 0xff) | (header[17] & 0xff) << 8) + 1;
+                byte[] body = new byte[blockSize - BGZF_HEADER_SIZE];
+                in.readFully(body);
+                chunks.put(inflaters.submit(() -> inflateBlock(body)));
+            }
+        }
+
+        private static byte[] inflateBlock(byte[] body) throws IOException {
+            int trailer = body.length - GZIP_TRAILER_SIZE;
+            long expectedCrc = readIntLE(body, trailer) & 0xffffffffL;
+            int size = readIntLE(body, trailer + 4);
+
+            byte[] data = new byte[size];
+            Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(body, 0, trailer);
+                int n = 0;
+                while (n < size && !inflater.finished()) {
+                    int inflated = inflater.inflate(data, n, size - n);
+                    if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    n += inflated;
+                }
+                if (n != size) {
+                    throw new IOException("Truncated BGZF block");
+                }
+            } catch (DataFormatException e) {
+                throw new IOException("Corrupt BGZF block: " + e.getMessage(), e);
+            } finally {
+                inflater.end();
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(data);
+            if (crc.getValue() != expectedCrc) {
+                throw new IOException("BGZF block CRC mismatch");
+            }
+            return data;
+        }
+
+        private static int readIntLE(byte[] bytes, int offset) {
+            return (bytes[offset] & 0xff) | (bytes[offset + 1] & 0xff) << 8
+                    | (bytes[offset + 2] & 0xff) << 16 | (bytes[offset + 3] & 0xff) << 24;
+        }
+
+        // Moves to the next non-empty chunk; false at the end of the data
+        private boolean fill() throws IOException {
+            while (!finished && position == current.length) {
+                try {
+                    byte[] next = chunks.take().get();
+                    if (next == END) {
+                        finished = true;
+                    } else {
+                        current = next;
+                        position = 0;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while decompressing", e);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+                }
+            }
+            return position < current.length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return fill() ? current[position++] & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int n = Math.min(length, current.length - position);
+            System.arraycopy(current, position, buffer, offset, n);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+            producer.interrupt();
+            if (inflaters != null) {
+                inflaters.shutdownNow();
+            }
+        }
+    }
+
+    private static Thread daemon(Runnable task) {
+        Thread thread = new Thread(task, "csv-decompressor");
+        thread.setDaemon(true);
+        return thread;
+    }
+}